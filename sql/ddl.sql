@@ -2,9 +2,12 @@
 CREATE DATABASE IF NOT EXISTS vehicle_api_db;
 USE vehicle_api_db;
 
+-- Ids são UUIDv7 em BINARY(16): ordenados no tempo, inserem no fim do índice clusterizado
+-- Bancos criados com VARCHAR(36): ver sql/migrations/uuid-binary16.sql
+
 -- Customers Table (with audit and soft delete)
 CREATE TABLE clientes (
-    id VARCHAR(36) PRIMARY KEY,
+    id BINARY(16) PRIMARY KEY,
     nome VARCHAR(100) NOT NULL,
     cpf VARCHAR(14) NOT NULL UNIQUE,
     email VARCHAR(100) NOT NULL UNIQUE,
@@ -13,15 +16,20 @@ CREATE TABLE clientes (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP NULL,
     INDEX idx_cpf (cpf),
-    INDEX idx_email (email)
+    INDEX idx_email (email),
+    -- Paginação por cursor; no InnoDB o índice secundário já termina com o id
+    INDEX idx_clientes_nome (nome),
+    INDEX idx_clientes_created_at (created_at)
 );
 
 -- Users Table (for authentication - no relationship with customers)
 CREATE TABLE usuarios (
-    id VARCHAR(36) PRIMARY KEY,
+    id BINARY(16) PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
     email VARCHAR(100) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
+    -- USER ou ADMIN; ADMIN libera /api/v1/admin/** (ver sql/migrations/user-role.sql)
+    role VARCHAR(20) NOT NULL DEFAULT 'USER',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     INDEX idx_username (username),
     INDEX idx_email (email)
@@ -29,42 +37,78 @@ CREATE TABLE usuarios (
 
 -- Vehicles Table (with audit and soft delete)
 CREATE TABLE veiculos (
-    id VARCHAR(36) PRIMARY KEY,
+    id BINARY(16) PRIMARY KEY,
     placa VARCHAR(7) NOT NULL UNIQUE,
     marca VARCHAR(50) NOT NULL,
     modelo VARCHAR(50) NOT NULL,
     ano INT NOT NULL,
     cor VARCHAR(30) NOT NULL,
-    cliente_id VARCHAR(36) NOT NULL,
+    cliente_id BINARY(16) NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP NULL,
     FOREIGN KEY (cliente_id) REFERENCES clientes(id),
     INDEX idx_placa (placa),
-    INDEX idx_cliente_id (cliente_id)
+    INDEX idx_cliente_id (cliente_id),
+    -- Paginação por cursor; no InnoDB o índice secundário já termina com o id
+    INDEX idx_veiculos_created_at (created_at)
+);
+
+-- Cache Invalidations Table (broadcast de invalidações entre nós)
+CREATE TABLE cache_invalidacoes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node_id VARCHAR(64) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    cache_name VARCHAR(50) NOT NULL,
+    cache_key VARCHAR(255) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_cache_invalidacoes_created_at (created_at)
+);
+
+-- Revoked Tokens Table (denylist de JWTs revogados até expirarem)
+CREATE TABLE tokens_revogados (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_id VARCHAR(36) NOT NULL UNIQUE,
+    username VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_tokens_revogados_expires_at (expires_at)
+);
+
+-- API Keys Table (chaves de integrações; só o HMAC do segredo é gravado)
+CREATE TABLE chaves_api (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    key_id VARCHAR(16) NOT NULL UNIQUE,
+    secret_hash VARCHAR(64) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    revoked_at TIMESTAMP NULL,
+    INDEX idx_chaves_api_username (username)
 );
 
 -- Sample Data for Testing
 
 -- Insert sample customers (with UUID)
+-- Dados de exemplo usam UUID() do MySQL; ids criados pela aplicação são UUIDv7
 INSERT INTO clientes (id, nome, cpf, email, telefone) VALUES
-(UUID(), 'João Silva', '12345678901', 'joao.silva@example.com', '(11) 98765-4321'),
-(UUID(), 'Maria Santos', '98765432109', 'maria.santos@example.com', '(21) 97654-3210'),
-(UUID(), 'Pedro Oliveira', '45678912301', 'pedro.oliveira@example.com', '(31) 96543-2109');
+(UUID_TO_BIN(UUID()), 'João Silva', '12345678901', 'joao.silva@example.com', '(11) 98765-4321'),
+(UUID_TO_BIN(UUID()), 'Maria Santos', '98765432109', 'maria.santos@example.com', '(21) 97654-3210'),
+(UUID_TO_BIN(UUID()), 'Pedro Oliveira', '45678912301', 'pedro.oliveira@example.com', '(31) 96543-2109');
 
 -- Insert sample user
 -- Password: 'senha123' (BCrypt hash with 10 rounds)
 -- Hash: $2a$10$DXRKt4diF/lelVPndfbyUeXu2u.So7KOObqPKFowuopH7IMiW3Btm
-INSERT INTO usuarios (id, username, email, password) VALUES
-(UUID(), 'admin', 'admin@fazpay.com', '$2a$10$DXRKt4diF/lelVPndfbyUeXu2u.So7KOObqPKFowuopH7IMiW3Btm');
+INSERT INTO usuarios (id, username, email, password, role) VALUES
+(UUID_TO_BIN(UUID()), 'admin', 'admin@fazpay.com', '$2a$10$DXRKt4diF/lelVPndfbyUeXu2u.So7KOObqPKFowuopH7IMiW3Btm', 'ADMIN');
 
 -- Insert sample vehicles (requires getting cliente IDs first)
 INSERT INTO veiculos (id, placa, marca, modelo, ano, cor, cliente_id)
-SELECT UUID(), 'ABC1234', 'Toyota', 'Corolla', 2022, 'Prata', id FROM clientes WHERE cpf = '12345678901'
+SELECT UUID_TO_BIN(UUID()), 'ABC1234', 'Toyota', 'Corolla', 2022, 'Prata', id FROM clientes WHERE cpf = '12345678901'
 UNION ALL
-SELECT UUID(), 'XYZ5678', 'Honda', 'Civic', 2021, 'Preto', id FROM clientes WHERE cpf = '12345678901'
+SELECT UUID_TO_BIN(UUID()), 'XYZ5678', 'Honda', 'Civic', 2021, 'Preto', id FROM clientes WHERE cpf = '12345678901'
 UNION ALL
-SELECT UUID(), 'DEF9012', 'Volkswagen', 'Gol', 2023, 'Branco', id FROM clientes WHERE cpf = '98765432109'
+SELECT UUID_TO_BIN(UUID()), 'DEF9012', 'Volkswagen', 'Gol', 2023, 'Branco', id FROM clientes WHERE cpf = '98765432109'
 UNION ALL
-SELECT UUID(), 'GHI3456', 'Chevrolet', 'Onix', 2020, 'Vermelho', id FROM clientes WHERE cpf = '45678912301';
+SELECT UUID_TO_BIN(UUID()), 'GHI3456', 'Chevrolet', 'Onix', 2020, 'Vermelho', id FROM clientes WHERE cpf = '45678912301';
 
@@ -0,0 +1,22 @@
+-- Migração: índices para a paginação por cursor (?after=) (MySQL 8+)
+--
+-- O seek "campo > ? OR (campo = ? AND id > ?)" só evita ler as linhas
+-- anteriores se houver índice na ordenação. No InnoDB todo índice secundário
+-- termina com a chave primária, então (campo) já serve como (campo, id).
+-- placa, cpf e email já têm índice; faltam nome e created_at.
+
+USE vehicle_api_db;
+
+ALTER TABLE clientes
+    ADD INDEX idx_clientes_nome (nome),
+    ADD INDEX idx_clientes_created_at (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE veiculos
+    ADD INDEX idx_veiculos_created_at (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Conferir o plano: deve usar o índice (type = range), sem "Using filesort"
+-- EXPLAIN SELECT * FROM veiculos WHERE deleted_at IS NULL
+--   AND (created_at > '2024-01-01 00:00:00' OR (created_at = '2024-01-01 00:00:00' AND id > UUID_TO_BIN('...')))
+--   ORDER BY created_at, id LIMIT 11;
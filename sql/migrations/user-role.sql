@@ -0,0 +1,17 @@
+-- Migração: papel do usuário (MySQL 8+)
+--
+-- Os endpoints /api/v1/admin/** (caches e rate limit) exigem ROLE_ADMIN.
+-- Usuários existentes e novos cadastros ficam como USER; o papel entra no
+-- access token no login, então quem for promovido precisa logar de novo.
+
+USE vehicle_api_db;
+
+ALTER TABLE usuarios
+    ADD COLUMN role VARCHAR(20) NOT NULL DEFAULT 'USER' AFTER password,
+    ALGORITHM = INSTANT;
+
+-- Conceder o papel de administrador (não há endpoint para isso, de propósito)
+UPDATE usuarios SET role = 'ADMIN' WHERE username = 'admin';
+
+-- Revogar: o access token já emitido vale até expirar (jwt.expiration)
+-- UPDATE usuarios SET role = 'USER' WHERE username = '...';
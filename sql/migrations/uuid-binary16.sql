@@ -0,0 +1,59 @@
+-- Migração: ids VARCHAR(36) -> BINARY(16) (MySQL 8+)
+--
+-- Os ids existentes são preservados (UUID_TO_BIN sem troca de bytes, a mesma
+-- ordem que o Hibernate usa ao ler BINARY(16)), então URLs, caches e
+-- integrações que já guardam ids continuam válidos. Só ids novos são UUIDv7;
+-- os antigos (v4) ficam espalhados no índice, mas as inserções novas passam a
+-- ir para o fim dele.
+--
+-- Rodar com a aplicação parada: a versão nova não lê VARCHAR(36) e a antiga
+-- não lê BINARY(16). Faça backup antes.
+
+USE vehicle_api_db;
+
+-- Tamanho de dados e índices; rodar antes e depois (e de novo após um tempo de inserções)
+-- ANALYZE TABLE clientes, veiculos, usuarios;
+-- SELECT table_name, data_length, index_length FROM information_schema.tables
+--  WHERE table_schema = 'vehicle_api_db' AND table_name IN ('clientes', 'veiculos', 'usuarios');
+
+-- 1. Colunas novas, preenchidas a partir das antigas
+ALTER TABLE clientes ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE usuarios ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE veiculos ADD COLUMN id_bin BINARY(16) NULL, ADD COLUMN cliente_id_bin BINARY(16) NULL;
+
+UPDATE clientes SET id_bin = UUID_TO_BIN(id);
+UPDATE usuarios SET id_bin = UUID_TO_BIN(id);
+UPDATE veiculos SET id_bin = UUID_TO_BIN(id), cliente_id_bin = UUID_TO_BIN(cliente_id);
+
+-- 2. A FK precisa sair antes de trocar a chave de clientes
+-- (nome gerado pelo MySQL para a FK sem nome do ddl.sql; confira com SHOW CREATE TABLE veiculos)
+ALTER TABLE veiculos DROP FOREIGN KEY veiculos_ibfk_1;
+
+-- 3. Troca das colunas; cada ALTER reconstrói a tabela uma vez
+ALTER TABLE clientes
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE usuarios
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE veiculos
+    DROP PRIMARY KEY,
+    DROP INDEX idx_cliente_id,
+    DROP COLUMN id,
+    DROP COLUMN cliente_id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN cliente_id_bin cliente_id BINARY(16) NOT NULL AFTER cor,
+    ADD PRIMARY KEY (id),
+    ADD INDEX idx_cliente_id (cliente_id);
+
+-- 4. FK de volta
+ALTER TABLE veiculos ADD CONSTRAINT fk_veiculos_cliente FOREIGN KEY (cliente_id) REFERENCES clientes(id);
+
+-- Conferência: ids devem voltar iguais ao texto original
+-- SELECT BIN_TO_UUID(id), nome FROM clientes LIMIT 5;
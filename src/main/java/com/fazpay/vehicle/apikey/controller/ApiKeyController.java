@@ -0,0 +1,50 @@
+package com.fazpay.vehicle.apikey.controller;
+
+import com.fazpay.vehicle.apikey.dto.ApiKeyRequest;
+import com.fazpay.vehicle.apikey.dto.ApiKeyResponse;
+import com.fazpay.vehicle.apikey.service.IApiKeyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/api-keys")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "API Keys", description = "API keys for machine-to-machine clients (sent in the X-API-Key header)")
+public class ApiKeyController {
+    
+    private final IApiKeyService apiKeyService;
+    
+    @PostMapping
+    @Operation(summary = "Create API key", description = "Creates an API key for the authenticated user. The key is only returned once")
+    public ResponseEntity<ApiKeyResponse> create(Authentication authentication,
+                                                 @Valid @RequestBody ApiKeyRequest request) {
+        log.info("POST /api/v1/api-keys - user: {}", authentication.getName());
+        ApiKeyResponse apiKey = apiKeyService.create(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(apiKey);
+    }
+    
+    @GetMapping
+    @Operation(summary = "List API keys", description = "Lists the API keys of the authenticated user, without their secrets")
+    public ResponseEntity<List<ApiKeyResponse>> findAll(Authentication authentication) {
+        log.info("GET /api/v1/api-keys - user: {}", authentication.getName());
+        return ResponseEntity.ok(apiKeyService.findByUsername(authentication.getName()));
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Revoke API key")
+    public ResponseEntity<Void> revoke(Authentication authentication, @PathVariable String id) {
+        log.info("DELETE /api/v1/api-keys/{} - user: {}", id, authentication.getName());
+        apiKeyService.revoke(authentication.getName(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fazpay.vehicle.apikey.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyRequest {
+    
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must have at most 100 characters")
+    private String name;
+}
@@ -0,0 +1,26 @@
+package com.fazpay.vehicle.apikey.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiKeyResponse {
+    
+    private String id;
+    private String name;
+    
+    // Chave completa, devolvida uma única vez na criação
+    private String apiKey;
+    
+    private LocalDateTime createdAt;
+    private LocalDateTime revokedAt;
+}
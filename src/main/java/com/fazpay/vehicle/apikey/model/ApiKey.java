@@ -0,0 +1,51 @@
+package com.fazpay.vehicle.apikey.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chave de API de uma conta de serviço. O segredo nunca é gravado: só o
+ * HMAC-SHA256 dele, calculado com a chave do servidor.
+ */
+@Entity
+@Table(name = "chaves_api", indexes = @Index(name = "idx_chaves_api_username", columnList = "username"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKey {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // Parte pública da chave, usada para localizar o registro
+    @Column(name = "key_id", nullable = false, unique = true, length = 16)
+    private String keyId;
+    
+    @Column(name = "secret_hash", nullable = false, length = 64)
+    private String secretHash;
+    
+    @Column(nullable = false, length = 100)
+    private String name;
+    
+    @Column(nullable = false, length = 50)
+    private String username;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+    
+    public boolean isActive() {
+        return revokedAt == null;
+    }
+}
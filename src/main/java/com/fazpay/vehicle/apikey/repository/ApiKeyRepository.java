@@ -0,0 +1,18 @@
+package com.fazpay.vehicle.apikey.repository;
+
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+    
+    Optional<ApiKey> findByKeyId(String keyId);
+    
+    Optional<ApiKey> findByKeyIdAndUsername(String keyId, String username);
+    
+    List<ApiKey> findByUsernameOrderByCreatedAtDesc(String username);
+}
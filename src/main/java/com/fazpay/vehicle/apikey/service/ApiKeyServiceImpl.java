@@ -0,0 +1,76 @@
+package com.fazpay.vehicle.apikey.service;
+
+import com.fazpay.vehicle.apikey.dto.ApiKeyRequest;
+import com.fazpay.vehicle.apikey.dto.ApiKeyResponse;
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import com.fazpay.vehicle.apikey.repository.ApiKeyRepository;
+import com.fazpay.vehicle.core.cache.TransactionCallbacks;
+import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.fazpay.vehicle.core.security.ApiKeyVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiKeyServiceImpl implements IApiKeyService {
+    
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyVerifier apiKeyVerifier;
+    
+    @Override
+    @Transactional
+    public ApiKeyResponse create(String username, ApiKeyRequest request) {
+        ApiKeyVerifier.IssuedApiKey issued = apiKeyVerifier.issue();
+        
+        ApiKey apiKey = apiKeyRepository.save(ApiKey.builder()
+                .keyId(issued.keyId())
+                .secretHash(issued.secretHash())
+                .name(request.getName())
+                .username(username)
+                .build());
+        log.info("Created API key {} for user: {}", apiKey.getKeyId(), username);
+        
+        ApiKeyResponse response = toResponse(apiKey);
+        response.setApiKey(issued.apiKey());
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApiKeyResponse> findByUsername(String username) {
+        return apiKeyRepository.findByUsernameOrderByCreatedAtDesc(username).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+    
+    @Override
+    @Transactional
+    public void revoke(String username, String keyId) {
+        ApiKey apiKey = apiKeyRepository.findByKeyIdAndUsername(keyId, username)
+                .orElseThrow(() -> new ResourceNotFoundException("API key", "id", keyId));
+        
+        if (apiKey.isActive()) {
+            apiKey.setRevokedAt(LocalDateTime.now());
+            apiKeyRepository.save(apiKey);
+            log.info("Revoked API key {} of user: {}", keyId, username);
+        }
+        // Neste nó vale no commit; antes dele uma leitura concorrente ainda veria a chave ativa e a recolocaria no cache.
+        // Nos demais nós, ao expirar o cache do verificador
+        TransactionCallbacks.afterCompletion(() -> apiKeyVerifier.invalidate(keyId));
+    }
+    
+    private ApiKeyResponse toResponse(ApiKey apiKey) {
+        return ApiKeyResponse.builder()
+                .id(apiKey.getKeyId())
+                .name(apiKey.getName())
+                .createdAt(apiKey.getCreatedAt())
+                .revokedAt(apiKey.getRevokedAt())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fazpay.vehicle.apikey.service;
+
+import com.fazpay.vehicle.apikey.dto.ApiKeyRequest;
+import com.fazpay.vehicle.apikey.dto.ApiKeyResponse;
+
+import java.util.List;
+
+public interface IApiKeyService {
+    
+    ApiKeyResponse create(String username, ApiKeyRequest request);
+    
+    List<ApiKeyResponse> findByUsername(String username);
+    
+    void revoke(String username, String keyId);
+}
@@ -2,15 +2,20 @@ package com.fazpay.vehicle.auth.controller;
 
 import com.fazpay.vehicle.auth.dto.LoginRequest;
 import com.fazpay.vehicle.auth.dto.LoginResponse;
+import com.fazpay.vehicle.auth.dto.LogoutRequest;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
 import com.fazpay.vehicle.auth.dto.RegisterRequest;
 import com.fazpay.vehicle.auth.dto.UserInfoResponse;
 import com.fazpay.vehicle.auth.service.IAuthService;
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.exception.InvalidTokenException;
 import com.fazpay.vehicle.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Authentication", description = "Authentication endpoints")
 public class AuthController {
     
+    private static final String BEARER_PREFIX = "Bearer ";
+    
     private final IAuthService authService;
     
     @PostMapping("/login")
@@ -41,6 +48,27 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token", description = "Exchanges a refresh token for a new access token and refresh token")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        log.info("Refresh token request received");
+        LoginResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revokes the current access token and, if provided, the refresh token")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) LogoutRequest request) {
+        log.info("Logout request received");
+        // A requisição pode ter sido autenticada por chave de API, sem um bearer token para revogar
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new InvalidTokenException(ErrorMessages.INVALID_ACCESS_TOKEN);
+        }
+        authService.logout(authorization.substring(BEARER_PREFIX.length()), request);
+        return ResponseEntity.noContent().build();
+    }
+    
     @GetMapping("/me")
     @Operation(summary = "Get current user info", description = "Returns the authenticated user information")
     public ResponseEntity<UserInfoResponse> getCurrentUser(Authentication authentication) {
@@ -18,6 +18,11 @@ public class LoginResponse {
     
     private String username;
     
+    private String refreshToken;
+    
+    // Validade do access token em segundos
+    private Long expiresIn;
+    
     public LoginResponse(String token, String username) {
         this.token = token;
         this.username = username;
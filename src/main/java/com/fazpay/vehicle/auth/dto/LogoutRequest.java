@@ -0,0 +1,16 @@
+package com.fazpay.vehicle.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+    
+    // Opcional: revoga também o refresh token da sessão
+    private String refreshToken;
+}
@@ -2,11 +2,17 @@ package com.fazpay.vehicle.auth.service;
 
 import com.fazpay.vehicle.auth.dto.LoginRequest;
 import com.fazpay.vehicle.auth.dto.LoginResponse;
+import com.fazpay.vehicle.auth.dto.LogoutRequest;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
 import com.fazpay.vehicle.auth.dto.RegisterRequest;
 import com.fazpay.vehicle.core.constants.ErrorMessages;
 import com.fazpay.vehicle.core.exception.BusinessException;
+import com.fazpay.vehicle.core.exception.InvalidTokenException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
 import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.core.security.PasswordHashingExecutor;
+import com.fazpay.vehicle.core.security.TokenDenylist;
+import com.fazpay.vehicle.core.security.VerifiedToken;
 import com.fazpay.vehicle.user.model.User;
 import com.fazpay.vehicle.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,10 +34,13 @@ public class AuthServiceImpl implements IAuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHasher;
+    private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
     
+    // Sem @Transactional: a conexão volta ao pool ao fim da consulta, antes do BCrypt
+    // (que roda no pool limitado, via PasswordHashingAuthenticationProvider)
     @Override
-    @Transactional(readOnly = true)
     public LoginResponse login(LoginRequest request) {
         log.info("Authenticating user: {}", request.getUsername());
         
@@ -38,15 +48,14 @@ public class AuthServiceImpl implements IAuthService {
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
         
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String token = tokenProvider.generateToken(authentication);
+        String token = tokenProvider.generateAccessToken(authentication.getName(), authentication.getAuthorities());
         
         log.info("User authenticated successfully: {}", request.getUsername());
-        return new LoginResponse(token, request.getUsername());
+        return buildLoginResponse(token, request.getUsername());
     }
     
+    // Também sem transação em volta do BCrypt; a unicidade final é garantida pelas constraints
     @Override
-    @Transactional
     public LoginResponse register(RegisterRequest request) {
         log.info("Registering new user: {}", request.getUsername());
         
@@ -56,7 +65,7 @@ public class AuthServiceImpl implements IAuthService {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .build();
         
         user = userRepository.save(user);
@@ -64,7 +73,57 @@ public class AuthServiceImpl implements IAuthService {
         
         String token = tokenProvider.generateToken(user.getUsername());
         
-        return new LoginResponse(token, user.getUsername());
+        return buildLoginResponse(token, user.getUsername());
+    }
+    
+    // Sem @Transactional: a revogação grava em transação própria e a leitura do usuário tem a sua
+    @Override
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        VerifiedToken refreshToken = tokenProvider.verifyToken(request.getRefreshToken());
+        if (refreshToken == null || !refreshToken.isRefreshToken() || tokenDenylist.isRevoked(refreshToken.tokenId())) {
+            throw new InvalidTokenException(ErrorMessages.INVALID_REFRESH_TOKEN);
+        }
+        
+        // Rotação: cada refresh token só pode ser usado uma vez. O INSERT único do jti é o que decide,
+        // então de duas renovações concorrentes com o mesmo token só uma recebe tokens novos
+        if (!tokenDenylist.revoke(refreshToken)) {
+            throw new InvalidTokenException(ErrorMessages.INVALID_REFRESH_TOKEN);
+        }
+        log.info("Refreshing tokens for user: {}", refreshToken.username());
+        
+        // Único ponto em que a renovação volta ao banco: usuário removido não renova
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(refreshToken.username());
+        } catch (UsernameNotFoundException ex) {
+            throw new InvalidTokenException(ErrorMessages.INVALID_REFRESH_TOKEN);
+        }
+        
+        String token = tokenProvider.generateAccessToken(userDetails.getUsername(), userDetails.getAuthorities());
+        return buildLoginResponse(token, userDetails.getUsername());
+    }
+    
+    @Override
+    public void logout(String accessToken, LogoutRequest request) {
+        VerifiedToken verifiedAccessToken = tokenProvider.verifyToken(accessToken);
+        if (verifiedAccessToken == null || !verifiedAccessToken.isAccessToken()) {
+            throw new InvalidTokenException(ErrorMessages.INVALID_ACCESS_TOKEN);
+        }
+        // Sem jti não há o que revogar: responder sucesso deixaria o token valendo até expirar
+        if (!verifiedAccessToken.isRevocable()) {
+            throw new InvalidTokenException(ErrorMessages.NON_REVOCABLE_TOKEN);
+        }
+        log.info("Logging out user: {}", verifiedAccessToken.username());
+        tokenDenylist.revoke(verifiedAccessToken);
+        
+        if (request != null && request.getRefreshToken() != null) {
+            VerifiedToken refreshToken = tokenProvider.verifyToken(request.getRefreshToken());
+            // Só o dono do access token pode revogar o próprio refresh token
+            if (refreshToken != null && refreshToken.isRefreshToken()
+                    && refreshToken.username().equals(verifiedAccessToken.username())) {
+                tokenDenylist.revoke(refreshToken);
+            }
+        }
     }
     
     @Override
@@ -78,6 +137,15 @@ public class AuthServiceImpl implements IAuthService {
     
     // Métodos auxiliares privados
     
+    private LoginResponse buildLoginResponse(String token, String username) {
+        return LoginResponse.builder()
+                .token(token)
+                .username(username)
+                .refreshToken(tokenProvider.generateRefreshToken(username))
+                .expiresIn(tokenProvider.getAccessTokenExpirationSeconds())
+                .build();
+    }
+    
     private void validateUsernameUniqueness(String username) {
         if (userRepository.existsByUsername(username)) {
             log.error("Username already exists: {}", username);
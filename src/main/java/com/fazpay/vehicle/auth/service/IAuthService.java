@@ -2,6 +2,8 @@ package com.fazpay.vehicle.auth.service;
 
 import com.fazpay.vehicle.auth.dto.LoginRequest;
 import com.fazpay.vehicle.auth.dto.LoginResponse;
+import com.fazpay.vehicle.auth.dto.LogoutRequest;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
 import com.fazpay.vehicle.auth.dto.RegisterRequest;
 import com.fazpay.vehicle.user.model.User;
 
@@ -11,6 +13,10 @@ public interface IAuthService {
     
     LoginResponse register(RegisterRequest request);
     
+    LoginResponse refresh(RefreshTokenRequest request);
+    
+    void logout(String accessToken, LogoutRequest request);
+    
     User getCurrentUser(String username);
 }
 
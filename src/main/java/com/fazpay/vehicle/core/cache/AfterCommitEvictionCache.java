@@ -0,0 +1,127 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adia evict/clear para depois do fim da transação corrente e descarta puts
+ * de leituras que começaram antes de uma invalidação da mesma chave, evitando
+ * que uma linha anterior ao commit volte para o cache. Em get(key, loader) o
+ * valor é gravado pelo próprio cache, então uma carga concorrente com a
+ * invalidação é removida logo depois de gravada.
+ */
+@Slf4j
+public class AfterCommitEvictionCache extends DelegatingCache {
+    
+    private static final int STRIPES = 1024;
+    private static final int MAX_PENDING_MISSES = 64;
+    
+    private final AtomicLongArray keyEpochs = new AtomicLongArray(STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+    private final ThreadLocal<Map<Object, Long>> pendingMisses = ThreadLocal.withInitial(HashMap::new);
+    
+    public AfterCommitEvictionCache(Cache delegate) {
+        super(delegate);
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            Map<Object, Long> misses = pendingMisses.get();
+            if (misses.size() >= MAX_PENDING_MISSES) {
+                misses.clear();
+            }
+            misses.put(key, epochOf(key));
+        }
+        return value;
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long epoch = epochOf(key);
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        // O loader pode ter lido a linha antes do commit; o valor também já pode estar no L2
+        if (loaded.get() && epoch != epochOf(key)) {
+            log.debug("Evicting stale load for key {} in cache {}", key, getName());
+            evictNow(key);
+        }
+        return value;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        if (isStaleLoad(key)) {
+            log.debug("Discarding stale put for key {} in cache {}", key, getName());
+            return;
+        }
+        delegate.put(key, value);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (isStaleLoad(key)) {
+            log.debug("Discarding stale putIfAbsent for key {} in cache {}", key, getName());
+            return null;
+        }
+        return delegate.putIfAbsent(key, value);
+    }
+    
+    @Override
+    public void evict(Object key) {
+        TransactionCallbacks.afterCompletion(() -> evictNow(key));
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        keyEpochs.incrementAndGet(stripeOf(key));
+        return delegate.evictIfPresent(key);
+    }
+    
+    @Override
+    public void clear() {
+        TransactionCallbacks.afterCompletion(this::clearNow);
+    }
+    
+    @Override
+    public boolean invalidate() {
+        clearEpoch.incrementAndGet();
+        return delegate.invalidate();
+    }
+    
+    private void evictNow(Object key) {
+        keyEpochs.incrementAndGet(stripeOf(key));
+        delegate.evict(key);
+    }
+    
+    private void clearNow() {
+        clearEpoch.incrementAndGet();
+        delegate.clear();
+    }
+    
+    private boolean isStaleLoad(Object key) {
+        Long missEpoch = pendingMisses.get().remove(key);
+        return missEpoch != null && missEpoch != epochOf(key);
+    }
+    
+    // Soma de dois contadores monotônicos: muda sempre que qualquer um deles muda
+    private long epochOf(Object key) {
+        return keyEpochs.get(stripeOf(key)) + clearEpoch.get();
+    }
+    
+    private int stripeOf(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fazpay.vehicle.core.cache;
+
+import java.util.Collection;
+
+// Declara que entradas de um cache dependem de entidades cacheadas em outro
+public interface CacheDependencies {
+    
+    String cacheName();
+    
+    String sourceCacheName();
+    
+    Collection<?> sourceKeys(Object value);
+}
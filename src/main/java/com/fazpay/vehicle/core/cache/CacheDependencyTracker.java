@@ -0,0 +1,80 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class CacheDependencyTracker {
+    
+    private final Map<String, List<CacheDependencies>> dependenciesByCache;
+    private final com.github.benmanes.caffeine.cache.Cache<DependencySource, Set<DependentEntry>> index;
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public CacheDependencyTracker(List<CacheDependencies> dependencies,
+                                  @Value("${app.cache.dependency-index.ttl:10m}") Duration indexTtl) {
+        this.dependenciesByCache = dependencies.stream()
+                .collect(Collectors.groupingBy(CacheDependencies::cacheName));
+        // O índice precisa viver pelo menos tanto quanto as entradas dependentes
+        this.index = Caffeine.newBuilder()
+                .expireAfterWrite(indexTtl)
+                .build();
+    }
+    
+    public Cache decorate(Cache cache) {
+        List<CacheDependencies> dependencies = dependenciesByCache.get(cache.getName());
+        return dependencies == null ? cache : new DependencyTrackingCache(cache, this);
+    }
+    
+    public Set<DependentEntry> removeDependents(String sourceCacheName, Object sourceKey) {
+        invalidations.incrementAndGet();
+        Set<DependentEntry> dependents = index.asMap().remove(new DependencySource(sourceCacheName, sourceKey));
+        return dependents != null ? dependents : Set.of();
+    }
+    
+    // Renova o índice para um valor que continua em cache (ex.: movido entre camadas)
+    public void registerDependencies(String cacheName, Object key, Object value) {
+        List<CacheDependencies> dependencies = dependenciesByCache.get(cacheName);
+        if (dependencies == null || value == null) {
+            return;
+        }
+        for (CacheDependencies dependency : dependencies) {
+            Collection<?> sourceKeys = dependency.sourceKeys(value);
+            if (!sourceKeys.isEmpty()) {
+                register(dependency.sourceCacheName(), sourceKeys, cacheName, key);
+            }
+        }
+    }
+    
+    long invalidationCount() {
+        return invalidations.get();
+    }
+    
+    void register(String sourceCacheName, Collection<?> sourceKeys, String cacheName, Object key) {
+        DependentEntry dependent = new DependentEntry(cacheName, key);
+        for (Object sourceKey : sourceKeys) {
+            // compute reescreve a entrada para renovar o prazo de expiração do índice
+            index.asMap().compute(new DependencySource(sourceCacheName, sourceKey), (source, dependents) -> {
+                Set<DependentEntry> updated = dependents != null ? dependents : ConcurrentHashMap.newKeySet();
+                updated.add(dependent);
+                return updated;
+            });
+        }
+    }
+    
+    public record DependencySource(String cacheName, Object key) {
+    }
+    
+    public record DependentEntry(String cacheName, Object key) {
+    }
+}
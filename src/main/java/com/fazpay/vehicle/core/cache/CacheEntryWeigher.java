@@ -0,0 +1,109 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Estima o tamanho em bytes de uma entrada (chave + valor) para que o limite
+ * dos caches seja por memória e não por quantidade: uma página com 100
+ * veículos pesa 100 vezes mais que um único veículo.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+    
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int MAX_DEPTH = 4;
+    
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+    };
+    
+    @Override
+    public int weigh(Object key, Object value) {
+        long size = ENTRY_OVERHEAD + estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+    
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+    
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String text) {
+            return 40L + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return 16;
+        }
+        if (value instanceof UUID) {
+            return 32;
+        }
+        if (value instanceof Temporal) {
+            return 72;
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Slice<?> slice) {
+            return 96 + estimateElements(slice.getContent(), depth + 1);
+        }
+        if (value instanceof Collection<?> collection) {
+            return 48 + estimateElements(collection, depth + 1);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 64 + estimateElements(map.keySet(), depth + 1) + estimateElements(map.values(), depth + 1);
+        }
+        return estimateFields(value, depth + 1);
+    }
+    
+    private static long estimateElements(Collection<?> elements, int depth) {
+        long size = 0;
+        for (Object element : elements) {
+            size += REFERENCE + estimate(element, depth);
+        }
+        return size;
+    }
+    
+    private static long estimateFields(Object value, int depth) {
+        long size = OBJECT_HEADER;
+        for (Field field : FIELDS.get(value.getClass())) {
+            if (field.getType().isPrimitive()) {
+                size += REFERENCE;
+                continue;
+            }
+            try {
+                size += REFERENCE + estimate(field.get(value), depth);
+            } catch (IllegalAccessException ex) {
+                size += REFERENCE;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,119 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidation;
+import com.fazpay.vehicle.core.cache.model.CacheInvalidationType;
+import com.fazpay.vehicle.core.cache.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Publica invalidações locais na tabela cache_invalidacoes para que os outros
+ * nós da aplicação as apliquem no próprio L1. A gravação é feita em lote por
+ * uma tarefa agendada, fora da thread da requisição.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBroadcaster {
+    
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_PENDING = 10_000;
+    
+    private final CacheInvalidationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final boolean enabled;
+    private final Queue<CacheInvalidation> pending = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Boolean> applyingRemote = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
+    public CacheInvalidationBroadcaster(CacheInvalidationRepository repository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.cache.node-id:${random.uuid}}") String nodeId,
+                                        @Value("${app.cache.invalidation.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Pode ser chamado em afterCompletion de outra transação
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId;
+        this.enabled = enabled;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void publishEvict(String cacheName, Object key) {
+        if (CacheKeyCodec.isEncodable(key)) {
+            publish(CacheInvalidationType.EVICT, cacheName, CacheKeyCodec.encode(key));
+        } else {
+            publish(CacheInvalidationType.CLEAR, cacheName, null);
+        }
+    }
+    
+    public void publish(CacheInvalidationType type, String cacheName, String cacheKey) {
+        if (!enabled || isApplyingRemote()) {
+            return;
+        }
+        
+        if (pending.size() >= MAX_PENDING) {
+            log.warn("Cache invalidation queue is full, dropping {} of {} in cache {}", type, cacheKey, cacheName);
+            return;
+        }
+        
+        pending.add(CacheInvalidation.builder()
+                .nodeId(nodeId)
+                .type(type)
+                .cacheName(cacheName)
+                .cacheKey(cacheKey)
+                .build());
+    }
+    
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.flush-interval:200}")
+    public void flush() {
+        List<CacheInvalidation> batch = new ArrayList<>();
+        CacheInvalidation invalidation;
+        while (batch.size() < FLUSH_BATCH_SIZE && (invalidation = pending.poll()) != null) {
+            batch.add(invalidation);
+        }
+        
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(batch));
+            log.debug("Published {} cache invalidations from node {}", batch.size(), nodeId);
+        } catch (RuntimeException ex) {
+            log.error("Could not publish {} cache invalidations, retrying on next flush", batch.size(), ex);
+            batch.forEach(failed -> failed.setId(null));
+            pending.addAll(batch);
+        }
+    }
+    
+    public boolean isApplyingRemote() {
+        return applyingRemote.get();
+    }
+    
+    // Invalidações recebidas de outros nós não são republicadas
+    public void applyingRemote(Runnable action) {
+        applyingRemote.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            applyingRemote.remove();
+        }
+    }
+}
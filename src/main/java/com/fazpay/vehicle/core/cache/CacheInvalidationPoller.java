@@ -0,0 +1,104 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidation;
+import com.fazpay.vehicle.core.cache.repository.CacheInvalidationRepository;
+import com.fazpay.vehicle.core.persistence.IdGapTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class CacheInvalidationPoller {
+    
+    // Cada nó grava lotes de até 500 linhas, então lacunas de alguns milhares de ids são normais
+    private static final int MAX_GAPS = 10_000;
+    // Ainda não sabemos até onde as invalidações de outros nós foram aplicadas
+    public static final long UNKNOWN_MARK = -1;
+    
+    private final CacheInvalidationRepository repository;
+    private final CacheInvalidator cacheInvalidator;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final Duration retention;
+    // Linhas com id menor podem ser commitadas depois de outras já lidas
+    private final IdGapTracker idGaps;
+    private volatile boolean started;
+    
+    public CacheInvalidationPoller(CacheInvalidationRepository repository,
+                                   CacheInvalidator cacheInvalidator,
+                                   CacheInvalidationBroadcaster broadcaster,
+                                   @Value("${app.cache.invalidation.retention:1h}") Duration retention,
+                                   @Value("${app.cache.invalidation.gap-timeout:30s}") Duration gapTimeout) {
+        this.repository = repository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.broadcaster = broadcaster;
+        this.retention = retention;
+        this.idGaps = new IdGapTracker(gapTimeout, MAX_GAPS);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:1000}")
+    public void poll() {
+        if (!broadcaster.isEnabled()) {
+            return;
+        }
+        
+        // Na primeira execução o histórico anterior à subida do nó é ignorado (sem snapshot restaurado)
+        if (!started) {
+            idGaps.reset(repository.findMaxId());
+            started = true;
+            return;
+        }
+        
+        List<Long> gaps = idGaps.pendingGaps();
+        if (!gaps.isEmpty()) {
+            apply(repository.findByIdInOrderByIdAsc(gaps));
+        }
+        apply(repository.findTop500ByIdGreaterThanOrderByIdAsc(idGaps.lastSeenId()));
+    }
+    
+    private void apply(List<CacheInvalidation> invalidations) {
+        for (CacheInvalidation invalidation : invalidations) {
+            idGaps.record(invalidation.getId());
+            if (broadcaster.getNodeId().equals(invalidation.getNodeId())) {
+                continue;
+            }
+            
+            try {
+                cacheInvalidator.applyRemote(invalidation);
+            } catch (RuntimeException ex) {
+                log.error("Could not apply cache invalidation {}", invalidation.getId(), ex);
+            }
+        }
+    }
+    
+    // Até onde as invalidações já foram aplicadas (abaixo da primeira lacuna); gravada junto com o snapshot dos valores
+    public long highWaterMark() {
+        if (!broadcaster.isEnabled()) {
+            return 0;
+        }
+        return started ? idGaps.safeMark() : UNKNOWN_MARK;
+    }
+    
+    // Chamado ao restaurar um snapshot: aplica o que outros nós invalidaram depois que ele foi gravado
+    public void resumeFrom(long highWaterMark) {
+        if (highWaterMark < 0 || !broadcaster.isEnabled()) {
+            return;
+        }
+        idGaps.reset(highWaterMark);
+        started = true;
+        log.info("Replaying cache invalidations after id {} written since the cache snapshot", highWaterMark);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.cleanup-interval:600000}")
+    public void cleanup() {
+        int removed = repository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.debug("Removed {} expired cache invalidations", removed);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidation;
+import com.fazpay.vehicle.core.cache.model.CacheInvalidationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+    
+    private final CacheManager cacheManager;
+    private final CacheVersions cacheVersions;
+    private final CacheDependencyTracker dependencyTracker;
+    private final CacheInvalidationBroadcaster broadcaster;
+    
+    public void evict(String cacheName, Object... keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        
+        for (Object key : keys) {
+            if (key != null) {
+                log.debug("Evicting key {} from cache {}", key, cacheName);
+                cache.evict(key);
+            }
+        }
+    }
+    
+    // Páginas carregam a versão da tabela na chave; incrementar torna todas inalcançáveis
+    public void invalidatePages(String cacheName) {
+        TransactionCallbacks.afterCompletion(() -> {
+            bumpPageVersion(cacheName);
+            broadcaster.publish(CacheInvalidationType.PAGES, cacheName, null);
+        });
+    }
+    
+    // Remove as entradas de outros caches montadas a partir da entidade alterada
+    public void invalidateDependents(String sourceCacheName, Object sourceKey) {
+        TransactionCallbacks.afterCompletion(() -> {
+            evictDependents(sourceCacheName, sourceKey);
+            if (CacheKeyCodec.isEncodable(sourceKey)) {
+                broadcaster.publish(CacheInvalidationType.DEPENDENTS, sourceCacheName, CacheKeyCodec.encode(sourceKey));
+            }
+        });
+    }
+    
+    // Aplica no cache local uma invalidação publicada por outro nó
+    public void applyRemote(CacheInvalidation invalidation) {
+        String cacheName = invalidation.getCacheName();
+        log.debug("Applying remote {} on cache {} from node {}",
+                  invalidation.getType(), cacheName, invalidation.getNodeId());
+        
+        broadcaster.applyingRemote(() -> {
+            switch (invalidation.getType()) {
+                case EVICT -> evict(cacheName, CacheKeyCodec.decode(invalidation.getCacheKey()));
+                case CLEAR -> {
+                    Cache cache = cacheManager.getCache(cacheName);
+                    if (cache != null) {
+                        cache.clear();
+                    }
+                }
+                case PAGES -> bumpPageVersion(cacheName);
+                case DEPENDENTS -> evictDependents(cacheName, CacheKeyCodec.decode(invalidation.getCacheKey()));
+            }
+        });
+    }
+    
+    private void bumpPageVersion(String cacheName) {
+        long version = cacheVersions.increment(cacheName);
+        log.debug("Page version of cache {} bumped to {}", cacheName, version);
+    }
+    
+    private void evictDependents(String sourceCacheName, Object sourceKey) {
+        for (CacheDependencyTracker.DependentEntry dependent : dependencyTracker.removeDependents(sourceCacheName, sourceKey)) {
+            evict(dependent.cacheName(), dependent.key());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.fazpay.vehicle.core.cache;
+
+import java.util.UUID;
+
+// Serializa chaves de cache em texto para que outros nós possam reconstruí-las
+public final class CacheKeyCodec {
+    
+    private static final String UUID_PREFIX = "uuid:";
+    private static final String STRING_PREFIX = "str:";
+    
+    private CacheKeyCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+    
+    public static boolean isEncodable(Object key) {
+        return key instanceof UUID || key instanceof String;
+    }
+    
+    public static String encode(Object key) {
+        if (key instanceof UUID uuid) {
+            return UUID_PREFIX + uuid;
+        }
+        if (key instanceof String value) {
+            return STRING_PREFIX + value;
+        }
+        throw new IllegalArgumentException("Unsupported cache key type: " + key.getClass().getName());
+    }
+    
+    public static Object decode(String encoded) {
+        if (encoded.startsWith(UUID_PREFIX)) {
+            return UUID.fromString(encoded.substring(UUID_PREFIX.length()));
+        }
+        if (encoded.startsWith(STRING_PREFIX)) {
+            return encoded.substring(STRING_PREFIX.length());
+        }
+        throw new IllegalArgumentException("Unsupported encoded cache key: " + encoded);
+    }
+}
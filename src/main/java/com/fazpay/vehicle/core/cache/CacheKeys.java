@@ -0,0 +1,90 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Monta chaves canônicas para consultas paginadas. Filtros equivalentes
+ * (caixa, espaços, hora de uma data) geram a mesma chave, e a ordenação
+ * faz parte dela para que ordens diferentes não compartilhem a página.
+ * A versão do cache entra no prefixo, então invalidatePages continua
+ * descartando todas as páginas de uma vez.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheKeys {
+    
+    private final CacheVersions cacheVersions;
+    
+    public String page(String cacheName, String query, Pageable pageable, Object... filters) {
+        return query + "_v" + cacheVersions.current(cacheName)
+                + "_" + filtersKey(filters)
+                + "_" + sortKey(pageable.getSort())
+                + "_" + pageKey(pageable);
+    }
+    
+    // O total não depende da página nem da ordenação, então é um só para todas as páginas do filtro
+    public String count(String cacheName, String query, Object... filters) {
+        return "count_" + query + "_v" + cacheVersions.current(cacheName) + "_" + filtersKey(filters);
+    }
+    
+    // Os filtros de texto são aplicados com LOWER(...) LIKE, então caixa e espaços nas pontas não mudam o resultado
+    public static String normalize(String filter) {
+        if (filter == null || filter.isBlank()) {
+            return null;
+        }
+        return filter.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static String normalizeFilter(Object filter) {
+        if (filter == null) {
+            return "";
+        }
+        if (filter instanceof String text) {
+            String normalized = normalize(text);
+            return normalized != null ? normalized : "";
+        }
+        // Filtros de data comparam apenas DATE(...)
+        if (filter instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate().toString();
+        }
+        return filter.toString();
+    }
+    
+    private static String filtersKey(Object... filters) {
+        StringJoiner normalizedFilters = new StringJoiner(",", "[", "]");
+        for (Object filter : filters) {
+            normalizedFilters.add(escape(normalizeFilter(filter)));
+        }
+        return normalizedFilters.toString();
+    }
+    
+    private static String sortKey(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "unsorted";
+        }
+        StringJoiner orders = new StringJoiner(",");
+        for (Sort.Order order : sort) {
+            String orderKey = escape(order.getProperty()) + ":" + order.getDirection();
+            orders.add(order.isIgnoreCase() ? orderKey + ":ic" : orderKey);
+        }
+        return orders.toString();
+    }
+    
+    private static String pageKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged";
+        }
+        return pageable.getPageNumber() + "_" + pageable.getPageSize();
+    }
+    
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace(",", "\\,").replace("]", "\\]");
+    }
+}
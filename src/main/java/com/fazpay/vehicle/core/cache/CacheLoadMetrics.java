@@ -0,0 +1,23 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores de carga que o Caffeine não expõe em CacheStats
+@Component
+public class CacheLoadMetrics {
+    
+    private final Map<String, LongAdder> coalescedLoads = new ConcurrentHashMap<>();
+    
+    public void recordCoalesced(String cacheName) {
+        coalescedLoads.computeIfAbsent(cacheName, name -> new LongAdder()).increment();
+    }
+    
+    public long coalescedCount(String cacheName) {
+        LongAdder counter = coalescedLoads.get(cacheName);
+        return counter != null ? counter.sum() : 0;
+    }
+}
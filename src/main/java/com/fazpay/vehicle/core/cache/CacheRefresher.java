@@ -0,0 +1,80 @@
+package com.fazpay.vehicle.core.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executa as recargas em segundo plano do modo refresh-ahead. O pool e a fila
+ * são limitados: se o banco estiver lento e a fila encher, a recarga é
+ * descartada e a entrada atual continua sendo servida até expirar.
+ */
+@Component
+@Slf4j
+public class CacheRefresher {
+    
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    
+    public CacheRefresher(PlatformTransactionManager transactionManager,
+                          @Value("${app.cache.refresh.threads:2}") int threads,
+                          @Value("${app.cache.refresh.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        // O loader é o próprio método @Cacheable, que pode depender de lazy loading
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+    
+    public <T> boolean submit(String cacheName, Object key, Callable<T> loader, Consumer<T> onLoaded, Runnable onFinished) {
+        try {
+            executor.execute(() -> {
+                try {
+                    T value = transactionTemplate.execute(status -> call(loader));
+                    onLoaded.accept(value);
+                } catch (RuntimeException ex) {
+                    log.warn("Background refresh of key {} in cache {} failed, serving current value: {}",
+                             key, cacheName, ex.getMessage());
+                } finally {
+                    onFinished.run();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            log.debug("Refresh queue is full, skipping refresh of key {} in cache {}", key, cacheName);
+            return false;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private static <T> T call(Callable<T> loader) {
+        try {
+            return loader.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.fazpay.vehicle.core.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava periodicamente (e no desligamento) as chaves mais quentes de cada cache
+ * em um arquivo local e as recarrega na subida, antes de o servidor web aceitar
+ * requisições. Valores só são reaproveitados se o snapshot for mais novo que
+ * max-value-age; fora disso, as chaves são recarregadas do banco pelo
+ * {@link CacheWarmer} do cache. O snapshot guarda também a última invalidação
+ * entre nós já aplicada aos valores, e o {@link CacheInvalidationPoller}
+ * reaplica as posteriores, incluindo as gravadas enquanto este nó estava fora.
+ */
+@Component
+@Slf4j
+public class CacheSnapshotter implements SmartInitializingSingleton {
+    
+    private static final int MAGIC = 0x4F564353;
+    private static final byte VERSION = 2;
+    private static final int NO_VALUE = -1;
+    
+    private final CacheManager cacheManager;
+    private final List<CacheWarmer> warmers;
+    private final List<OffHeapCodec> codecs;
+    private final CacheInvalidationPoller invalidationPoller;
+    private final boolean enabled;
+    private final Path path;
+    private final int maxKeysPerCache;
+    private final boolean includeValues;
+    private final Duration maxValueAge;
+    
+    public CacheSnapshotter(CacheManager cacheManager,
+                            List<CacheWarmer> warmers,
+                            List<OffHeapCodec> codecs,
+                            CacheInvalidationPoller invalidationPoller,
+                            @Value("${app.cache.snapshot.enabled:false}") boolean enabled,
+                            @Value("${app.cache.snapshot.path:cache-snapshot.bin}") Path path,
+                            @Value("${app.cache.snapshot.max-keys-per-cache:1000}") int maxKeysPerCache,
+                            @Value("${app.cache.snapshot.include-values:true}") boolean includeValues,
+                            @Value("${app.cache.snapshot.max-value-age:2m}") Duration maxValueAge) {
+        this.cacheManager = cacheManager;
+        this.warmers = warmers;
+        this.codecs = codecs;
+        this.invalidationPoller = invalidationPoller;
+        this.enabled = enabled;
+        this.path = path;
+        this.maxKeysPerCache = maxKeysPerCache;
+        this.includeValues = includeValues;
+        this.maxValueAge = maxValueAge;
+    }
+    
+    // Roda depois de todos os singletons e antes do start do servidor web
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            restore();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.cache.snapshot.interval:60000}",
+               initialDelayString = "${app.cache.snapshot.interval:60000}")
+    public void scheduledSnapshot() {
+        if (enabled) {
+            snapshot();
+        }
+    }
+    
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (enabled) {
+            snapshot();
+        }
+    }
+    
+    public int snapshot() {
+        // Lida antes dos valores: uma invalidação aplicada durante a coleta só é reaplicada, nunca perdida
+        long invalidationMark = invalidationPoller.highWaterMark();
+        Map<String, List<SnapshotEntry>> entries = collectHotEntries();
+        int count = entries.values().stream().mapToInt(List::size).sum();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, invalidationMark, entries);
+            }
+            // Quem lê nunca vê um arquivo pela metade
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} hot cache entries to snapshot {}", count, path);
+            return count;
+        } catch (IOException ex) {
+            log.warn("Could not write cache snapshot to {}: {}", path, ex.getMessage());
+            return 0;
+        }
+    }
+    
+    public int restore() {
+        if (!Files.isRegularFile(path)) {
+            log.info("No cache snapshot found at {}, starting with empty caches", path);
+            return 0;
+        }
+        
+        long start = System.nanoTime();
+        long createdAt;
+        long invalidationMark;
+        Map<String, List<SnapshotEntry>> entries;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                log.warn("Ignoring cache snapshot {}: unknown format", path);
+                return 0;
+            }
+            createdAt = in.readLong();
+            invalidationMark = in.readLong();
+            entries = read(in);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable cache snapshot {}: {}", path, ex.getMessage());
+            return 0;
+        }
+        
+        // Sem a marca não há como reaplicar invalidações posteriores: os valores vêm do banco
+        boolean trustValues = System.currentTimeMillis() - createdAt <= maxValueAge.toMillis()
+                && invalidationMark != CacheInvalidationPoller.UNKNOWN_MARK;
+        int restored = 0;
+        for (Map.Entry<String, List<SnapshotEntry>> cacheEntries : entries.entrySet()) {
+            restored += restore(cacheEntries.getKey(), cacheEntries.getValue(), trustValues);
+        }
+        if (trustValues) {
+            // Ainda antes de aceitar requisições: valores alterados em outros nós saem do cache
+            invalidationPoller.resumeFrom(invalidationMark);
+            invalidationPoller.poll();
+        }
+        log.info("Warmed {} cache entries from snapshot {} in {} ms (values {})", restored, path,
+                 (System.nanoTime() - start) / 1_000_000, trustValues ? "reused" : "reloaded from database");
+        return restored;
+    }
+    
+    private int restore(String cacheName, List<SnapshotEntry> entries, boolean trustValues) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        CacheWarmer warmer = warmerFor(cacheName);
+        OffHeapCodec codec = codecFor(cacheName);
+        
+        int restored = 0;
+        for (SnapshotEntry entry : entries) {
+            try {
+                Object key = CacheKeyCodec.decode(entry.key());
+                if (trustValues && entry.value() != null && codec != null) {
+                    // Não sobrescreve o que um L2 compartilhado já tenha de mais novo
+                    cache.putIfAbsent(key, codec.decode(entry.value()));
+                    restored++;
+                } else if (warmer != null && warmer.supports(key)) {
+                    warmer.warm(key);
+                    restored++;
+                }
+            } catch (RuntimeException ex) {
+                log.debug("Skipping snapshot key {} of cache {}: {}", entry.key(), cacheName, ex.getMessage());
+            }
+        }
+        return restored;
+    }
+    
+    private Map<String, List<SnapshotEntry>> collectHotEntries() {
+        Map<String, List<SnapshotEntry>> entries = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            CacheWarmer warmer = warmerFor(cacheName);
+            OffHeapCodec codec = includeValues ? codecFor(cacheName) : null;
+            if (cache == null || (warmer == null && codec == null)
+                    || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                continue;
+            }
+            
+            List<SnapshotEntry> cacheEntries = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : hottest(nativeCache).entrySet()) {
+                Object key = entry.getKey();
+                if (!CacheKeyCodec.isEncodable(key)) {
+                    continue;
+                }
+                byte[] value = codec != null && codec.supports(entry.getValue()) ? codec.encode(entry.getValue()) : null;
+                if (value != null || (warmer != null && warmer.supports(key))) {
+                    cacheEntries.add(new SnapshotEntry(CacheKeyCodec.encode(key), value));
+                }
+            }
+            if (!cacheEntries.isEmpty()) {
+                entries.put(cacheName, cacheEntries);
+            }
+        }
+        return entries;
+    }
+    
+    // Para caches limitados por peso, o Caffeine ordena pela frequência estimada de acesso
+    private Map<?, ?> hottest(com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+        return nativeCache.policy().eviction()
+                .<Map<?, ?>>map(eviction -> eviction.hottest(maxKeysPerCache))
+                .orElseGet(() -> nativeCache.asMap().entrySet().stream()
+                        .limit(maxKeysPerCache)
+                        .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()), Map::putAll));
+    }
+    
+    private void write(DataOutputStream out, long invalidationMark, Map<String, List<SnapshotEntry>> entries) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeLong(invalidationMark);
+        out.writeInt(entries.size());
+        for (Map.Entry<String, List<SnapshotEntry>> cacheEntries : entries.entrySet()) {
+            out.writeUTF(cacheEntries.getKey());
+            out.writeInt(cacheEntries.getValue().size());
+            for (SnapshotEntry entry : cacheEntries.getValue()) {
+                out.writeUTF(entry.key());
+                if (entry.value() == null) {
+                    out.writeInt(NO_VALUE);
+                } else {
+                    out.writeInt(entry.value().length);
+                    out.write(entry.value());
+                }
+            }
+        }
+    }
+    
+    private Map<String, List<SnapshotEntry>> read(DataInputStream in) throws IOException {
+        Map<String, List<SnapshotEntry>> entries = new LinkedHashMap<>();
+        int cacheCount = in.readInt();
+        for (int i = 0; i < cacheCount; i++) {
+            String cacheName = in.readUTF();
+            int entryCount = in.readInt();
+            List<SnapshotEntry> cacheEntries = new ArrayList<>(Math.min(entryCount, maxKeysPerCache));
+            for (int j = 0; j < entryCount; j++) {
+                String key = in.readUTF();
+                int length = in.readInt();
+                byte[] value = null;
+                if (length != NO_VALUE) {
+                    value = new byte[length];
+                    in.readFully(value);
+                }
+                cacheEntries.add(new SnapshotEntry(key, value));
+            }
+            entries.put(cacheName, cacheEntries);
+        }
+        return entries;
+    }
+    
+    private CacheWarmer warmerFor(String cacheName) {
+        return warmers.stream()
+                .filter(warmer -> warmer.cacheName().equals(cacheName))
+                .findFirst()
+                .orElse(null);
+    }
+    
+    private OffHeapCodec codecFor(String cacheName) {
+        return codecs.stream()
+                .filter(codec -> codec.cacheName().equals(cacheName))
+                .findFirst()
+                .orElse(null);
+    }
+    
+    private record SnapshotEntry(String key, byte[] value) {
+    }
+}
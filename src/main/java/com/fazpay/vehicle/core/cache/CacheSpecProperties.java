@@ -0,0 +1,34 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+    
+    // Especificação usada por caches sem entrada própria em "specs"
+    private Spec defaults = new Spec();
+    
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+    
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+    
+    @Data
+    public static class Spec {
+        private int initialCapacity = 100;
+        private DataSize maximumWeight = DataSize.ofMegabytes(8);
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        // Opcional: ativa o refresh-ahead; a diferença para expireAfterWrite é o tempo máximo servindo valor antigo
+        private Duration refreshAfterWrite;
+        // Opcional: camada off-heap (memória direta) que recebe as entradas removidas do L1 por tamanho
+        private DataSize offHeapCapacity;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CacheVersions {
+    
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    
+    public long current(String cacheName) {
+        return counter(cacheName).get();
+    }
+    
+    public long increment(String cacheName) {
+        return counter(cacheName).incrementAndGet();
+    }
+    
+    private AtomicLong counter(String cacheName) {
+        return versions.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+}
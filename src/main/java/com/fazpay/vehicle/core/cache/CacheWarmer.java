@@ -0,0 +1,11 @@
+package com.fazpay.vehicle.core.cache;
+
+// Recarrega uma chave do snapshot pelo caminho normal de leitura (método @Cacheable)
+public interface CacheWarmer {
+    
+    String cacheName();
+    
+    boolean supports(Object key);
+    
+    void warm(Object key);
+}
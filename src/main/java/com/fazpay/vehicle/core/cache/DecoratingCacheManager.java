@@ -0,0 +1,40 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+public class DecoratingCacheManager implements CacheManager {
+    
+    private final CacheManager targetCacheManager;
+    private final UnaryOperator<Cache> decorator;
+    private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+    
+    public DecoratingCacheManager(CacheManager targetCacheManager, UnaryOperator<Cache> decorator) {
+        this.targetCacheManager = targetCacheManager;
+        this.decorator = decorator;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        Cache decorated = decoratedCaches.get(name);
+        if (decorated != null) {
+            return decorated;
+        }
+        
+        Cache target = targetCacheManager.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return decoratedCaches.computeIfAbsent(name, key -> decorator.apply(target));
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return targetCacheManager.getCacheNames();
+    }
+}
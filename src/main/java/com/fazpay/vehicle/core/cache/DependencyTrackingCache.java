@@ -0,0 +1,85 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registra de quais entidades de outros caches cada entrada depende. Uma
+ * entrada carregada enquanto alguma dependência era invalidada é descartada,
+ * pois pode ter sido montada com dados anteriores à invalidação.
+ */
+@Slf4j
+class DependencyTrackingCache extends DelegatingCache {
+    
+    private static final int MAX_PENDING_MISSES = 64;
+    
+    private final CacheDependencyTracker tracker;
+    private final ThreadLocal<Map<Object, Long>> pendingMisses = ThreadLocal.withInitial(HashMap::new);
+    
+    DependencyTrackingCache(Cache delegate, CacheDependencyTracker tracker) {
+        super(delegate);
+        this.tracker = tracker;
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            Map<Object, Long> misses = pendingMisses.get();
+            if (misses.size() >= MAX_PENDING_MISSES) {
+                misses.clear();
+            }
+            misses.put(key, tracker.invalidationCount());
+        }
+        return value;
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long invalidationsBefore = tracker.invalidationCount();
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            T loadedValue = valueLoader.call();
+            loaded.set(true);
+            registerDependencies(key, loadedValue);
+            return loadedValue;
+        });
+        if (loaded.get()) {
+            dropIfInvalidatedSince(key, invalidationsBefore);
+        }
+        return value;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        Long invalidationsBefore = pendingMisses.get().remove(key);
+        registerDependencies(key, value);
+        delegate.put(key, value);
+        if (invalidationsBefore != null) {
+            dropIfInvalidatedSince(key, invalidationsBefore);
+        }
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        registerDependencies(key, value);
+        return delegate.putIfAbsent(key, value);
+    }
+    
+    private void registerDependencies(Object key, Object value) {
+        tracker.registerDependencies(getName(), key, value);
+    }
+    
+    // Registro antes do put e checagem depois fecham a corrida com invalidações concorrentes
+    private void dropIfInvalidatedSince(Object key, long invalidationsBefore) {
+        if (tracker.invalidationCount() != invalidationsBefore) {
+            log.debug("Dropping key {} from cache {} loaded during a dependency invalidation", key, getName());
+            delegate.evict(key);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra buscas que não encontraram nada em um cache de TTL curto. O cache
+ * passa pelos mesmos decorators dos demais, então a remoção feita ao criar o
+ * registro só acontece após o commit e também é propagada aos outros nós.
+ */
+@Component
+@RequiredArgsConstructor
+public class NegativeLookupCache {
+    
+    private final CacheManager cacheManager;
+    
+    public boolean isKnownMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache != null && cache.get(key) != null;
+    }
+    
+    public void recordMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.fazpay.vehicle.core.cache;
+
+// Serialização compacta dos valores de um cache para a camada off-heap
+public interface OffHeapCodec {
+    
+    String cacheName();
+    
+    boolean supports(Object value);
+    
+    byte[] encode(Object value);
+    
+    Object decode(byte[] bytes);
+}
@@ -0,0 +1,189 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Armazena valores serializados fora do heap, em segmentos de ByteBuffer
+ * direto usados como um anel: as escritas são sequenciais no segmento atual e,
+ * quando o anel dá a volta, o segmento mais antigo é reaproveitado e todas as
+ * entradas dele são descartadas (evicção FIFO por segmento). Os segmentos são
+ * alocados sob demanda. Só o índice (chave -> posição) fica no heap.
+ * Cada entrada guarda o prazo que ainda tinha no L1, então a passagem pela
+ * camada off-heap não estende o expireAfterWrite do cache.
+ */
+public class OffHeapStore {
+    
+    private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+    
+    private final int segmentSize;
+    private final long ttlNanos;
+    private final Ticker ticker;
+    private final ByteBuffer[] segments;
+    // Incrementada sempre que um segmento é reaproveitado; leituras de uma geração antiga viram miss
+    private final AtomicLongArray generations;
+    private final List<List<Object>> segmentKeys;
+    private final Map<Object, Location> index = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    private int currentSegment;
+    private int writeOffset;
+    
+    public OffHeapStore(long capacityBytes, Duration timeToLive) {
+        this(capacityBytes, timeToLive, Ticker.systemTicker());
+    }
+    
+    public OffHeapStore(long capacityBytes, Duration timeToLive, Ticker ticker) {
+        long segmentBytes = Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, capacityBytes / 16));
+        this.segmentSize = (int) segmentBytes;
+        int segmentCount = (int) Math.max(2, capacityBytes / segmentBytes);
+        this.ttlNanos = timeToLive.toNanos();
+        this.ticker = ticker;
+        this.segments = new ByteBuffer[segmentCount];
+        this.generations = new AtomicLongArray(segmentCount);
+        this.segmentKeys = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segmentKeys.add(new ArrayList<>());
+        }
+    }
+    
+    // expiresInNanos: o que resta do prazo da entrada, limitado ao timeToLive do store
+    public void put(Object key, byte[] bytes, long expiresInNanos) {
+        if (bytes.length > segmentSize || expiresInNanos <= 0) {
+            return;
+        }
+        long expiresAt = ticker.read() + Math.min(expiresInNanos, ttlNanos);
+        
+        synchronized (writeLock) {
+            if (segments[currentSegment] == null) {
+                segments[currentSegment] = ByteBuffer.allocateDirect(segmentSize);
+            }
+            if (writeOffset + bytes.length > segmentSize) {
+                advanceSegment();
+            }
+            segments[currentSegment].put(writeOffset, bytes);
+            Location location = new Location(currentSegment, generations.get(currentSegment),
+                    writeOffset, bytes.length, expiresAt);
+            writeOffset += bytes.length;
+            segmentKeys.get(currentSegment).add(key);
+            index.put(key, location);
+        }
+    }
+    
+    // Remove e devolve o valor com o prazo restante: cada entrada fica em uma única camada por vez
+    public Entry take(Object key) {
+        Location location = index.remove(key);
+        long now = ticker.read();
+        byte[] bytes = location != null ? read(location, now) : null;
+        if (bytes == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Entry(bytes, location.expiresAt() - now);
+    }
+    
+    public void remove(Object key) {
+        index.remove(key);
+    }
+    
+    public void clear() {
+        synchronized (writeLock) {
+            index.clear();
+            for (int i = 0; i < segments.length; i++) {
+                generations.incrementAndGet(i);
+                segmentKeys.get(i).clear();
+            }
+            currentSegment = 0;
+            writeOffset = 0;
+        }
+    }
+    
+    public long entryCount() {
+        return index.size();
+    }
+    
+    public long allocatedBytes() {
+        long allocated = 0;
+        for (ByteBuffer segment : segments) {
+            if (segment != null) {
+                allocated += segment.capacity();
+            }
+        }
+        return allocated;
+    }
+    
+    public long capacityBytes() {
+        return (long) segmentSize * segments.length;
+    }
+    
+    public long hitCount() {
+        return hits.sum();
+    }
+    
+    public long missCount() {
+        return misses.sum();
+    }
+    
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    
+    private byte[] read(Location location, long now) {
+        if (location.expiresAt() - now <= 0) {
+            return null;
+        }
+        if (generations.get(location.segment()) != location.generation()) {
+            return null;
+        }
+        
+        byte[] bytes = new byte[location.length()];
+        segments[location.segment()].get(location.offset(), bytes);
+        // Seqlock: se o segmento foi reaproveitado durante a cópia, os bytes podem estar misturados
+        VarHandle.acquireFence();
+        if (generations.get(location.segment()) != location.generation()) {
+            return null;
+        }
+        return bytes;
+    }
+    
+    private void advanceSegment() {
+        currentSegment = (currentSegment + 1) % segments.length;
+        writeOffset = 0;
+        if (segments[currentSegment] == null) {
+            segments[currentSegment] = ByteBuffer.allocateDirect(segmentSize);
+        }
+        
+        int recycled = currentSegment;
+        long previousGeneration = generations.getAndIncrement(recycled);
+        for (Object key : segmentKeys.get(recycled)) {
+            index.computeIfPresent(key, (k, location) -> {
+                if (location.segment() == recycled && location.generation() == previousGeneration) {
+                    evictions.increment();
+                    return null;
+                }
+                return location;
+            });
+        }
+        segmentKeys.get(recycled).clear();
+    }
+    
+    public record Entry(byte[] bytes, long expiresInNanos) {
+    }
+    
+    private record Location(int segment, long generation, int offset, int length, long expiresAt) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Liga o {@link OffHeapStore} ao codec de um cache. Recebe as entradas que o
+ * L1 Caffeine remove por tamanho (evictionListener, chamado dentro da remoção
+ * atômica da chave) e devolve valores já desserializados na promoção.
+ * O prazo restante da entrada no L1 desce com ela e volta na promoção
+ * (via {@link WriteExpiry}), então o valor expira no mesmo instante em que
+ * expiraria se nunca tivesse saído do L1.
+ */
+@Slf4j
+public class OffHeapTier {
+    
+    private final String cacheName;
+    private final OffHeapStore store;
+    private final OffHeapCodec codec;
+    // Avisado quando um valor muda de camada, para renovar o índice de dependências
+    private final BiConsumer<Object, Object> onTierChange;
+    // Prazo restante de valores promovidos, consumido pelo WriteExpiry no compute que os insere no L1
+    private final Map<Object, Long> promotedExpiresIn = new ConcurrentHashMap<>();
+    private volatile Policy.VarExpiration<Object, Object> l1Expiration;
+    
+    public OffHeapTier(String cacheName, OffHeapStore store, OffHeapCodec codec, BiConsumer<Object, Object> onTierChange) {
+        this.cacheName = cacheName;
+        this.store = store;
+        this.codec = codec;
+        this.onTierChange = onTierChange;
+    }
+    
+    public OffHeapStore getStore() {
+        return store;
+    }
+    
+    // O L1 é construído depois da camada (o evictionListener aponta para ela)
+    public void attach(Cache<Object, Object> l1) {
+        this.l1Expiration = l1.policy().expireVariably().orElse(null);
+    }
+    
+    public void onEviction(Object key, Object value, RemovalCause cause) {
+        if (cause != RemovalCause.SIZE || value == null || !codec.supports(value)) {
+            return;
+        }
+        // Chamado antes da remoção da chave terminar, então o prazo da entrada ainda está disponível
+        OptionalLong expiresIn = l1Expiration != null
+                ? l1Expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS)
+                : OptionalLong.empty();
+        if (expiresIn.isEmpty()) {
+            return;
+        }
+        try {
+            store.put(key, codec.encode(value), expiresIn.getAsLong());
+            onTierChange.accept(key, value);
+        } catch (RuntimeException ex) {
+            log.warn("Could not move key {} of cache {} off-heap: {}", key, cacheName, ex.getMessage());
+        }
+    }
+    
+    public Object take(Object key) {
+        OffHeapStore.Entry entry = store.take(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            Object value = codec.decode(entry.bytes());
+            onTierChange.accept(key, value);
+            promotedExpiresIn.put(key, entry.expiresInNanos());
+            return value;
+        } catch (RuntimeException ex) {
+            log.warn("Could not read off-heap key {} of cache {}: {}", key, cacheName, ex.getMessage());
+            return null;
+        }
+    }
+    
+    long claimPromotedExpiresIn(Object key) {
+        Long expiresIn = promotedExpiresIn.remove(key);
+        return expiresIn != null ? expiresIn : -1;
+    }
+    
+    public void remove(Object key) {
+        store.remove(key);
+    }
+    
+    public void clear() {
+        store.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Camada off-heap abaixo do L1 Caffeine: um miss no L1 procura a chave no
+ * {@link OffHeapTier} antes de ir ao loader. Cada entrada fica em uma única
+ * camada, e a promoção roda dentro do compute do Caffeine para a chave, então
+ * uma evicção concorrente espera a promoção e remove o valor promovido.
+ */
+public class OffHeapTierCache extends DelegatingCache {
+    
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final OffHeapTier tier;
+    
+    @SuppressWarnings("unchecked")
+    public OffHeapTierCache(Cache delegate, OffHeapTier tier) {
+        super(delegate);
+        this.nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) delegate.getNativeCache();
+        this.tier = tier;
+    }
+    
+    public OffHeapTier getTier() {
+        return tier;
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value != null) {
+            return value;
+        }
+        
+        Object promoted = nativeCache.asMap().computeIfAbsent(key, tier::take);
+        return promoted != null ? new SimpleValueWrapper(promoted) : null;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object unwrapped = value != null ? value.get() : null;
+        if (unwrapped != null && type != null && !type.isInstance(unwrapped)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + unwrapped);
+        }
+        return (T) unwrapped;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            Object promoted = tier.take(key);
+            return promoted != null ? (T) promoted : valueLoader.call();
+        });
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        tier.remove(key);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            tier.remove(key);
+        }
+        return existing;
+    }
+    
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        tier.remove(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        tier.remove(key);
+        return present;
+    }
+    
+    @Override
+    public void clear() {
+        delegate.clear();
+        tier.clear();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        boolean present = delegate.invalidate();
+        tier.clear();
+        return present;
+    }
+}
@@ -0,0 +1,84 @@
+package com.fazpay.vehicle.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refresh-ahead sobre o L1 Caffeine: um hit em uma entrada mais velha que
+ * refreshAfterWrite devolve o valor atual e agenda a recarga em segundo plano
+ * com o mesmo loader do {@code @Cacheable(sync = true)}. Se a recarga falhar
+ * ou demorar, o valor antigo continua válido até o expireAfterWrite do cache.
+ * O novo valor só substitui exatamente o valor que foi recarregado, então uma
+ * invalidação concorrente sempre vence.
+ */
+@Slf4j
+public class RefreshAheadCache extends DelegatingCache {
+    
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final CacheRefresher refresher;
+    private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+    
+    @SuppressWarnings("unchecked")
+    public RefreshAheadCache(Cache delegate, Duration refreshAfterWrite, Duration expireAfterWrite, CacheRefresher refresher) {
+        super(delegate);
+        this.nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) delegate.getNativeCache();
+        this.refreshAfterNanos = refreshAfterWrite.toNanos();
+        this.expireAfterNanos = expireAfterWrite.toNanos();
+        this.refresher = refresher;
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        
+        if (!loaded.get() && value != null && isDueForRefresh(key)) {
+            refreshAsync(key, value, valueLoader);
+        }
+        return value;
+    }
+    
+    // Com WriteExpiry a idade é o que já se passou do prazo; vale também para valores promovidos do off-heap
+    private boolean isDueForRefresh(Object key) {
+        OptionalLong expiresIn = nativeCache.policy().expireVariably()
+                .map(expiration -> expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS))
+                .orElse(OptionalLong.empty());
+        return expiresIn.isPresent() && expireAfterNanos - expiresIn.getAsLong() >= refreshAfterNanos;
+    }
+    
+    private <T> void refreshAsync(Object key, T currentValue, Callable<T> valueLoader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        
+        boolean submitted = refresher.submit(getName(), key, valueLoader,
+                refreshed -> replace(key, currentValue, refreshed),
+                () -> refreshing.remove(key));
+        if (!submitted) {
+            refreshing.remove(key);
+        }
+    }
+    
+    private void replace(Object key, Object currentValue, Object refreshed) {
+        if (refreshed == null) {
+            nativeCache.asMap().remove(key, currentValue);
+            return;
+        }
+        if (nativeCache.asMap().replace(key, currentValue, refreshed)) {
+            log.debug("Refreshed key {} in cache {}", key, getName());
+        }
+    }
+}
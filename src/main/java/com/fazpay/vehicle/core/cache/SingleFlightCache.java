@@ -0,0 +1,70 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Conta as chamadas de {@code @Cacheable(sync = true)} que encontraram uma
+ * carga da mesma chave em andamento e esperaram por ela em vez de ir ao banco.
+ * O primeiro chamador de uma chave registra sua chamada; quem encontra uma
+ * chamada registrada espera por ela e só conta como coalescido se ela de fato
+ * executou o loader.
+ */
+public class SingleFlightCache extends DelegatingCache {
+    
+    private final CacheLoadMetrics loadMetrics;
+    private final Map<Object, CompletableFuture<Flight>> inFlightCalls = new ConcurrentHashMap<>();
+    
+    public SingleFlightCache(Cache delegate, CacheLoadMetrics loadMetrics) {
+        super(delegate);
+        this.loadMetrics = loadMetrics;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CompletableFuture<Flight> call = new CompletableFuture<>();
+        CompletableFuture<Flight> inFlight = inFlightCalls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            Flight flight = await(inFlight);
+            if (flight != null && flight.loaded()) {
+                loadMetrics.recordCoalesced(getName());
+                return (T) flight.value();
+            }
+            // A outra chamada foi um acerto ou falhou: segue pelo cache, que registra o acerto ou tenta de novo
+            return delegate.get(key, valueLoader);
+        }
+        
+        AtomicBoolean loaded = new AtomicBoolean();
+        try {
+            T value = delegate.get(key, () -> {
+                loaded.set(true);
+                return valueLoader.call();
+            });
+            call.complete(new Flight(value, loaded.get()));
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+    
+    private static Flight await(CompletableFuture<Flight> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException ex) {
+            return null;
+        }
+    }
+    
+    private record Flight(Object value, boolean loaded) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidationType;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1 local (Caffeine) com L2 compartilhado opcional. Toda invalidação local é
+ * propagada aos demais nós pelo {@link CacheInvalidationBroadcaster}.
+ */
+public class TwoLevelCache extends DelegatingCache {
+    
+    private final Cache sharedCache;
+    private final CacheInvalidationBroadcaster broadcaster;
+    
+    public TwoLevelCache(Cache localCache, Cache sharedCache, CacheInvalidationBroadcaster broadcaster) {
+        super(localCache);
+        this.sharedCache = sharedCache;
+        this.broadcaster = broadcaster;
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value != null || sharedCache == null) {
+            return value;
+        }
+        
+        ValueWrapper shared = sharedCache.get(key);
+        if (shared != null && shared.get() != null) {
+            delegate.put(key, shared.get());
+        }
+        return shared;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (sharedCache == null) {
+            return delegate.get(key, valueLoader);
+        }
+        
+        return delegate.get(key, () -> {
+            ValueWrapper shared = sharedCache.get(key);
+            if (shared != null && shared.get() != null) {
+                return (T) shared.get();
+            }
+            T value = valueLoader.call();
+            if (value != null) {
+                sharedCache.put(key, value);
+            }
+            return value;
+        });
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        if (sharedCache != null) {
+            sharedCache.put(key, value);
+        }
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null && sharedCache != null) {
+            sharedCache.putIfAbsent(key, value);
+        }
+        return existing;
+    }
+    
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        if (isOriginNode()) {
+            sharedCache.evict(key);
+        }
+        broadcaster.publishEvict(getName(), key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        if (isOriginNode()) {
+            present |= sharedCache.evictIfPresent(key);
+        }
+        broadcaster.publishEvict(getName(), key);
+        return present;
+    }
+    
+    @Override
+    public void clear() {
+        delegate.clear();
+        if (isOriginNode()) {
+            sharedCache.clear();
+        }
+        broadcaster.publish(CacheInvalidationType.CLEAR, getName(), null);
+    }
+    
+    @Override
+    public boolean invalidate() {
+        boolean present = delegate.invalidate();
+        if (isOriginNode()) {
+            present |= sharedCache.invalidate();
+        }
+        broadcaster.publish(CacheInvalidationType.CLEAR, getName(), null);
+        return present;
+    }
+    
+    // O L2 é compartilhado: só o nó que originou a invalidação precisa limpá-lo
+    private boolean isOriginNode() {
+        return sharedCache != null && !broadcaster.isApplyingRemote();
+    }
+}
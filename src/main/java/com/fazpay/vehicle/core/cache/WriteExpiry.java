@@ -0,0 +1,43 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Mesmo comportamento do expireAfterWrite do Caffeine (prazo renovado só na
+ * escrita), mas como expiração por entrada: um valor promovido da camada
+ * off-heap entra no L1 com o prazo que lhe restava, e não com um novo
+ * expireAfterWrite inteiro.
+ */
+public class WriteExpiry implements Expiry<Object, Object> {
+    
+    private final long timeToLiveNanos;
+    private final OffHeapTier offHeapTier;
+    
+    public WriteExpiry(Duration timeToLive) {
+        this(timeToLive, null);
+    }
+    
+    public WriteExpiry(Duration timeToLive, OffHeapTier offHeapTier) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.offHeapTier = offHeapTier;
+    }
+    
+    // Chamado dentro do compute que inseriu a chave, logo após a promoção
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        long promotedExpiresIn = offHeapTier != null ? offHeapTier.claimPromotedExpiresIn(key) : -1;
+        return promotedExpiresIn >= 0 ? Math.min(promotedExpiresIn, timeToLiveNanos) : timeToLiveNanos;
+    }
+    
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return timeToLiveNanos;
+    }
+    
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fazpay.vehicle.core.cache.controller;
+
+import com.fazpay.vehicle.core.cache.dto.CacheStatsResponse;
+import com.fazpay.vehicle.core.cache.service.ICacheAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Cache Admin", description = "Cache statistics and maintenance endpoints")
+public class CacheAdminController {
+    
+    private final ICacheAdminService cacheAdminService;
+    
+    @GetMapping
+    @Operation(summary = "List statistics of all caches",
+               description = "Returns hit/miss/eviction counters, load times and estimated memory of each cache")
+    public ResponseEntity<List<CacheStatsResponse>> findAll() {
+        log.debug("GET /api/v1/admin/caches");
+        return ResponseEntity.ok(cacheAdminService.findAllStats());
+    }
+    
+    @GetMapping("/{name}")
+    @Operation(summary = "Get statistics of a cache")
+    public ResponseEntity<CacheStatsResponse> findByName(@PathVariable String name) {
+        log.debug("GET /api/v1/admin/caches/{}", name);
+        return ResponseEntity.ok(cacheAdminService.findStats(name));
+    }
+    
+    @DeleteMapping("/{name}/keys/{key}")
+    @Operation(summary = "Evict a single cache key",
+               description = "UUID keys are parsed as UUID; any other key (e.g. placa_ABC1234) is used as-is")
+    public ResponseEntity<Void> evictKey(@PathVariable String name, @PathVariable String key) {
+        log.info("DELETE /api/v1/admin/caches/{}/keys/{}", name, key);
+        cacheAdminService.evictKey(name, key);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.fazpay.vehicle.core.cache.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long evictionWeight;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long coalescedLoadCount;
+    private double averageLoadPenaltyMillis;
+    private double totalLoadTimeMillis;
+    private Long estimatedSizeBytes;
+    private Long maximumWeightBytes;
+    private Long offHeapEntryCount;
+    private Long offHeapHitCount;
+    private Long offHeapEvictionCount;
+    private Long offHeapAllocatedBytes;
+    private Long offHeapCapacityBytes;
+}
@@ -0,0 +1,8 @@
+package com.fazpay.vehicle.core.cache.model;
+
+public enum CacheInvalidationType {
+    EVICT,
+    CLEAR,
+    PAGES,
+    DEPENDENTS
+}
@@ -0,0 +1,36 @@
+package com.fazpay.vehicle.core.cache.repository;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+    
+    // Lida a cada poucos segundos e nunca alterada: entidades read-only, sem a cópia para dirty checking
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CacheInvalidation> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+    
+    // Ids pulados por transações que ainda não tinham commitado
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<CacheInvalidation> findByIdInOrderByIdAsc(Collection<Long> ids);
+    
+    @Query("SELECT COALESCE(MAX(ci.id), 0) FROM CacheInvalidation ci")
+    Long findMaxId();
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,18 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca endpoints GET cujo corpo vem do cache de dados: o JSON (e a versão
+ * gzip) do objeto retornado é guardado e reaproveitado enquanto o mesmo
+ * objeto continuar sendo servido pelo cache.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponseBody {
+}
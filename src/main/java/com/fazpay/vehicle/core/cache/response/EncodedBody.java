@@ -0,0 +1,45 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// JSON já serializado de um corpo de resposta; a variante gzip é gerada na primeira requisição que aceitar gzip
+public class EncodedBody {
+    
+    private final byte[] json;
+    private volatile byte[] gzip;
+    
+    public EncodedBody(byte[] json) {
+        this.json = json;
+    }
+    
+    public byte[] json() {
+        return json;
+    }
+    
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+    
+    // Estimativa de memória: JSON mais uma variante gzip
+    public int weight() {
+        return json.length + json.length / 4;
+    }
+    
+    private static byte[] compress(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
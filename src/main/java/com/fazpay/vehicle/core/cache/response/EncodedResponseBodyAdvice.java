@@ -0,0 +1,66 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Escreve diretamente no response os bytes guardados pelo
+ * {@link EncodedResponseCache} para endpoints anotados com
+ * {@link CachedResponseBody}, evitando serializar e comprimir a cada hit.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class EncodedResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    
+    private static final String GZIP = "gzip";
+    
+    private final EncodedResponseCache encodedResponseCache;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return encodedResponseCache.isEnabled() && returnType.hasMethodAnnotation(CachedResponseBody.class);
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+        
+        EncodedBody encoded = encodedResponseCache.encode(body);
+        boolean gzip = acceptsGzip(request) && encodedResponseCache.shouldGzip(encoded);
+        byte[] bytes = gzip ? encoded.gzip() : encoded.json();
+        
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(bytes.length);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        try {
+            response.getBody().write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        // Corpo nulo: o conversor de mensagens não escreve nada depois deste advice
+        return null;
+    }
+    
+    private boolean acceptsGzip(ServerHttpRequest request) {
+        return request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                .anyMatch(value -> value.toLowerCase().contains(GZIP));
+    }
+}
@@ -0,0 +1,85 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.dto.PageResponse;
+import com.fazpay.vehicle.core.pagination.PageCount;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Guarda o JSON serializado dos objetos servidos pelo cache de dados. As
+ * chaves são fracas e comparadas por identidade: quando o valor é removido ou
+ * recarregado no cache de dados, o objeto antigo deixa de ser servido e a
+ * entrada correspondente simplesmente deixa de ser encontrada.
+ */
+@Component
+@Slf4j
+public class EncodedResponseCache {
+    
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int minGzipSize;
+    private final Cache<Object, EncodedBody> encodedBodies;
+    private final Cache<Slice<?>, PageResponse<?>> pageResponses;
+    
+    public EncodedResponseCache(ObjectMapper objectMapper,
+                                @Value("${app.cache.encoded-responses.enabled:true}") boolean enabled,
+                                @Value("${app.cache.encoded-responses.maximum-weight:16MB}") DataSize maximumWeight,
+                                @Value("${app.cache.encoded-responses.min-gzip-size:1024}") int minGzipSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.minGzipSize = minGzipSize;
+        this.encodedBodies = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Object body, EncodedBody encoded) -> encoded.weight())
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+        this.pageResponses = Caffeine.newBuilder()
+                .weakKeys()
+                .build();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public boolean shouldGzip(EncodedBody encoded) {
+        return encoded.json().length >= minGzipSize;
+    }
+    
+    public EncodedBody encode(Object body) {
+        return encodedBodies.get(body, key -> new EncodedBody(serialize(key)));
+    }
+    
+    public <T> PageResponse<T> pageResponse(Page<T> page) {
+        return pageResponse(page, PageCount.exact(page.getTotalElements()));
+    }
+    
+    // A mesma página em cache com o mesmo total gera sempre o mesmo PageResponse, mantendo a identidade usada como chave
+    @SuppressWarnings("unchecked")
+    public <T> PageResponse<T> pageResponse(Slice<T> slice, PageCount count) {
+        if (!enabled) {
+            return PageResponse.from(slice, count);
+        }
+        return (PageResponse<T>) pageResponses.asMap().compute(slice,
+                (key, current) -> current != null && current.hasCount(count) ? current : PageResponse.from(slice, count));
+    }
+    
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize response body of type " + body.getClass().getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fazpay.vehicle.core.cache.service;
+
+import com.fazpay.vehicle.core.cache.CacheInvalidator;
+import com.fazpay.vehicle.core.cache.CacheLoadMetrics;
+import com.fazpay.vehicle.core.cache.DelegatingCache;
+import com.fazpay.vehicle.core.cache.OffHeapStore;
+import com.fazpay.vehicle.core.cache.OffHeapTierCache;
+import com.fazpay.vehicle.core.cache.dto.CacheStatsResponse;
+import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAdminServiceImpl implements ICacheAdminService {
+    
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final CacheManager cacheManager;
+    private final CacheInvalidator cacheInvalidator;
+    private final CacheLoadMetrics loadMetrics;
+    
+    @Override
+    public List<CacheStatsResponse> findAllStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::findStats)
+                .toList();
+    }
+    
+    @Override
+    public CacheStatsResponse findStats(String cacheName) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = findNativeCache(cacheName);
+        CacheStats stats = nativeCache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = nativeCache.policy().eviction();
+        Optional<OffHeapStore> offHeap = findOffHeapStore(findCache(cacheName));
+        
+        return CacheStatsResponse.builder()
+                .name(cacheName)
+                .size(nativeCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .coalescedLoadCount(loadMetrics.coalescedCount(cacheName))
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / NANOS_PER_MILLI)
+                .totalLoadTimeMillis(stats.totalLoadTime() / NANOS_PER_MILLI)
+                .estimatedSizeBytes(eviction.flatMap(policy -> policy.weightedSize().stream().boxed().findFirst()).orElse(null))
+                .maximumWeightBytes(eviction.filter(Policy.Eviction::isWeighted).map(Policy.Eviction::getMaximum).orElse(null))
+                .offHeapEntryCount(offHeap.map(OffHeapStore::entryCount).orElse(null))
+                .offHeapHitCount(offHeap.map(OffHeapStore::hitCount).orElse(null))
+                .offHeapEvictionCount(offHeap.map(OffHeapStore::evictionCount).orElse(null))
+                .offHeapAllocatedBytes(offHeap.map(OffHeapStore::allocatedBytes).orElse(null))
+                .offHeapCapacityBytes(offHeap.map(OffHeapStore::capacityBytes).orElse(null))
+                .build();
+    }
+    
+    @Override
+    public void evictKey(String cacheName, String key) {
+        findCache(cacheName);
+        log.info("Evicting key {} from cache {} via admin endpoint", key, cacheName);
+        // Chaves por id são UUID; as demais (placa_, all_v...) são strings
+        cacheInvalidator.evict(cacheName, parseKey(key));
+    }
+    
+    private Cache findCache(String cacheName) {
+        Cache cache = cacheManager.getCacheNames().contains(cacheName) ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache", "name", cacheName);
+        }
+        return cache;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> findNativeCache(String cacheName) {
+        Object nativeCache = findCache(cacheName).getNativeCache();
+        if (!(nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            throw new ResourceNotFoundException("Cache", "name", cacheName);
+        }
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache;
+    }
+    
+    // A camada off-heap fica no meio da cadeia de decorators do cache
+    private Optional<OffHeapStore> findOffHeapStore(Cache cache) {
+        Cache current = cache;
+        while (current instanceof DelegatingCache delegating) {
+            if (current instanceof OffHeapTierCache offHeapTierCache) {
+                return Optional.of(offHeapTierCache.getTier().getStore());
+            }
+            current = delegating.getDelegate();
+        }
+        return Optional.empty();
+    }
+    
+    private Object parseKey(String key) {
+        try {
+            return UUID.fromString(key);
+        } catch (IllegalArgumentException ex) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fazpay.vehicle.core.cache.service;
+
+import com.fazpay.vehicle.core.cache.dto.CacheStatsResponse;
+
+import java.util.List;
+
+public interface ICacheAdminService {
+    
+    List<CacheStatsResponse> findAllStats();
+    
+    CacheStatsResponse findStats(String cacheName);
+    
+    void evictKey(String cacheName, String key);
+}
@@ -1,32 +1,129 @@
 package com.fazpay.vehicle.core.config;
 
+import com.fazpay.vehicle.core.cache.AfterCommitEvictionCache;
+import com.fazpay.vehicle.core.cache.CacheDependencyTracker;
+import com.fazpay.vehicle.core.cache.CacheEntryWeigher;
+import com.fazpay.vehicle.core.cache.CacheInvalidationBroadcaster;
+import com.fazpay.vehicle.core.cache.CacheLoadMetrics;
+import com.fazpay.vehicle.core.cache.CacheRefresher;
+import com.fazpay.vehicle.core.cache.CacheSpecProperties;
+import com.fazpay.vehicle.core.cache.DecoratingCacheManager;
+import com.fazpay.vehicle.core.cache.OffHeapCodec;
+import com.fazpay.vehicle.core.cache.OffHeapStore;
+import com.fazpay.vehicle.core.cache.OffHeapTier;
+import com.fazpay.vehicle.core.cache.OffHeapTierCache;
+import com.fazpay.vehicle.core.cache.RefreshAheadCache;
+import com.fazpay.vehicle.core.cache.SingleFlightCache;
+import com.fazpay.vehicle.core.cache.TwoLevelCache;
+import com.fazpay.vehicle.core.cache.WriteExpiry;
+import com.fazpay.vehicle.core.constants.CacheNames;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Configuration
 @EnableCaching
+@Slf4j
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
     
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("vehicles", "customers", "users");
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+    @Primary
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecs,
+                                     CacheDependencyTracker dependencyTracker,
+                                     CacheInvalidationBroadcaster broadcaster,
+                                     CacheLoadMetrics loadMetrics,
+                                     CacheRefresher refresher,
+                                     List<OffHeapCodec> offHeapCodecs,
+                                     @Qualifier("sharedCacheManager") ObjectProvider<CacheManager> sharedCacheManager) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeineCacheBuilder(cacheSpecs.getDefaults(), null));
+        Map<String, OffHeapTier> offHeapTiers = new HashMap<>();
+        // Cada cache declarado tem seu próprio limite em bytes estimados
+        for (String cacheName : List.of(CacheNames.VEHICLES, CacheNames.VEHICLE_MISSES, CacheNames.CUSTOMERS, CacheNames.USERS)) {
+            CacheSpecProperties.Spec spec = cacheSpecs.specFor(cacheName);
+            OffHeapTier offHeapTier = offHeapTier(cacheName, spec, offHeapCodecs, dependencyTracker);
+            Caffeine<Object, Object> builder = caffeineCacheBuilder(spec, offHeapTier);
+            if (offHeapTier != null) {
+                // Entradas removidas do L1 por tamanho descem para a camada off-heap
+                builder.evictionListener(offHeapTier::onEviction);
+                offHeapTiers.put(cacheName, offHeapTier);
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = builder.build();
+            if (offHeapTier != null) {
+                offHeapTier.attach(nativeCache);
+            }
+            cacheManager.registerCustomCache(cacheName, nativeCache);
+        }
         // Permite criação dinâmica de caches não declarados
         cacheManager.setAllowNullValues(false);
-        return cacheManager;
+        // L2 compartilhado é opcional (ex.: Redis registrado como "sharedCacheManager")
+        CacheManager sharedCaches = sharedCacheManager.getIfAvailable();
+        
+        // Evictions só são aplicadas depois que a transação termina
+        return new DecoratingCacheManager(cacheManager, cache -> {
+            OffHeapTier offHeapTier = offHeapTiers.get(cache.getName());
+            Cache local = new SingleFlightCache(offHeapTier != null ? new OffHeapTierCache(cache, offHeapTier) : cache, loadMetrics);
+            CacheSpecProperties.Spec spec = cacheSpecs.specFor(cache.getName());
+            if (isRefreshAheadEnabled(cache.getName(), spec)) {
+                local = new RefreshAheadCache(local, spec.getRefreshAfterWrite(), spec.getExpireAfterWrite(), refresher);
+            }
+            Cache shared = sharedCaches != null ? sharedCaches.getCache(cache.getName()) : null;
+            Cache twoLevel = new TwoLevelCache(local, shared, broadcaster);
+            return new AfterCommitEvictionCache(dependencyTracker.decorate(twoLevel));
+        });
     }
     
-    Caffeine<Object, Object> caffeineCacheBuilder() {
+    private OffHeapTier offHeapTier(String cacheName, CacheSpecProperties.Spec spec,
+                                    List<OffHeapCodec> codecs, CacheDependencyTracker dependencyTracker) {
+        if (spec.getOffHeapCapacity() == null) {
+            return null;
+        }
+        Optional<OffHeapCodec> codec = codecs.stream()
+                .filter(candidate -> candidate.cacheName().equals(cacheName))
+                .findFirst();
+        if (codec.isEmpty()) {
+            log.warn("Ignoring off-heap-capacity of cache {}: no OffHeapCodec registered for it", cacheName);
+            return null;
+        }
+        OffHeapStore store = new OffHeapStore(spec.getOffHeapCapacity().toBytes(), spec.getExpireAfterWrite());
+        return new OffHeapTier(cacheName, store, codec.get(),
+                (key, value) -> dependencyTracker.registerDependencies(cacheName, key, value));
+    }
+    
+    // Entre refreshAfterWrite e expireAfterWrite a entrada é servida enquanto é recarregada
+    private boolean isRefreshAheadEnabled(String cacheName, CacheSpecProperties.Spec spec) {
+        if (spec.getRefreshAfterWrite() == null) {
+            return false;
+        }
+        if (spec.getRefreshAfterWrite().compareTo(spec.getExpireAfterWrite()) >= 0) {
+            log.warn("Ignoring refresh-after-write of cache {}: it must be shorter than expire-after-write", cacheName);
+            return false;
+        }
+        return true;
+    }
+    
+    // Expiração por entrada equivalente ao expireAfterWrite; valores promovidos do off-heap mantêm o prazo restante
+    Caffeine<Object, Object> caffeineCacheBuilder(CacheSpecProperties.Spec spec, OffHeapTier offHeapTier) {
         return Caffeine.newBuilder()
-                .initialCapacity(100)
-                .maximumSize(500)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .initialCapacity(spec.getInitialCapacity())
+                .maximumWeight(spec.getMaximumWeight().toBytes())
+                .weigher(new CacheEntryWeigher())
+                .expireAfter(new WriteExpiry(spec.getExpireAfterWrite(), offHeapTier))
                 .recordStats();
     }
 }
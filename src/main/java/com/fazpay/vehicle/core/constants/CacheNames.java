@@ -8,6 +8,7 @@ public final class CacheNames {
     
     public static final String CUSTOMERS = "customers";
     public static final String VEHICLES = "vehicles";
+    public static final String VEHICLE_MISSES = "vehicleMisses";
     public static final String USERS = "users";
 }
 
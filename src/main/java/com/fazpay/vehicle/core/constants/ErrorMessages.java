@@ -22,10 +22,32 @@ public final class ErrorMessages {
     
     // Mensagens de Autenticação
     public static final String INVALID_CREDENTIALS = "Invalid username or password";
+    public static final String INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
+    public static final String INVALID_ACCESS_TOKEN = "Missing, invalid or expired bearer access token";
+    public static final String NON_REVOCABLE_TOKEN = "Token has no id and cannot be revoked; sign in again to get a revocable token";
+    public static final String AUTHENTICATION_OVERLOADED = "Too many authentication requests, please retry shortly";
+    
+    // Mensagens de Limite de Requisições
+    public static final String RATE_LIMIT_EXCEEDED = "Rate limit exceeded, please retry later";
+    public static final String STREAMING_OVERLOADED = "Too many full exports in progress, please retry shortly";
     
     // Mensagens de Validação
     public static final String PATCH_REQUEST_EMPTY = "At least one field must be provided for update";
     
+    // Mensagens de Lote
+    public static final String BATCH_EMPTY = "Batch must contain at least one item";
+    public static final String BATCH_TOO_LARGE = "Batch must contain at most %d items";
+    public static final String BATCH_ITEM_NULL = "Item must not be null";
+    public static final String BATCH_DUPLICATE_ITEM = "Duplicate %s in batch: %s";
+    
+    // Mensagens de Paginação por Cursor
+    public static final String INVALID_CURSOR = "Invalid or expired cursor";
+    public static final String INVALID_CURSOR_SORT_FIELD = "Sort field %s is not available with cursor pagination. Available: %s";
+    public static final String INVALID_CURSOR_PAGE_SIZE = "Page size must be between 1 and %d";
+    
+    // Mensagens de Contagem
+    public static final String INVALID_COUNT_MODE = "Invalid count mode %s. Available: none, approximate, cached";
+    
     // Mensagens Gerais
     public static final String RESOURCE_NOT_FOUND = "%s not found with %s: %s";
 }
@@ -0,0 +1,28 @@
+package com.fazpay.vehicle.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Resultado de um item do lote; index é a posição do item na requisição
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult<T> {
+    private int index;
+    private BatchItemStatus status;
+    private T data;
+    private List<String> errors;
+    
+    public static <T> BatchItemResult<T> created(int index, T data) {
+        return new BatchItemResult<>(index, BatchItemStatus.CREATED, data, null);
+    }
+    
+    public static <T> BatchItemResult<T> failed(int index, List<String> errors) {
+        return new BatchItemResult<>(index, BatchItemStatus.FAILED, null, errors);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fazpay.vehicle.core.dto;
+
+public enum BatchItemStatus {
+    CREATED,
+    FAILED
+}
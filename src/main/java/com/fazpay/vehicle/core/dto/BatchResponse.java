@@ -0,0 +1,28 @@
+package com.fazpay.vehicle.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    private int total;
+    private int created;
+    private int failed;
+    private List<BatchItemResult<T>> items;
+    
+    public static <T> BatchResponse<T> of(List<BatchItemResult<T>> items) {
+        int created = (int) items.stream().filter(item -> item.getStatus() == BatchItemStatus.CREATED).count();
+        return new BatchResponse<>(items.size(), created, items.size() - created, items);
+    }
+    
+    @JsonIgnore
+    public boolean isAllCreated() {
+        return failed == 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fazpay.vehicle.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private String sort;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,10 +1,15 @@
 package com.fazpay.vehicle.core.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fazpay.vehicle.core.pagination.PageCount;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Objects;
 
 @Data
 @NoArgsConstructor
@@ -13,9 +18,43 @@ public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Ausentes quando a listagem não foi contada (count=none)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+    // false quando totalElements é só um limite inferior (count=approximate)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalExact;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
+    
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return from(page, PageCount.exact(page.getTotalElements()));
+    }
+    
+    public static <T> PageResponse<T> from(Slice<T> slice, PageCount count) {
+        Long total = count.total();
+        return new PageResponse<>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            total,
+            total == null ? null : totalPages(total, slice.getSize()),
+            total == null ? null : count.exact(),
+            slice.isFirst(),
+            slice.isLast(),
+            slice.hasNext()
+        );
+    }
+    
+    public boolean hasCount(PageCount count) {
+        return Objects.equals(totalElements, count.total())
+                && Objects.equals(totalExact, count.total() == null ? null : count.exact());
+    }
+    
+    private static int totalPages(long total, int size) {
+        return size == 0 ? 1 : (int) Math.ceil((double) total / size);
+    }
 }
-
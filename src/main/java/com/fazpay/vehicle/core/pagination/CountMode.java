@@ -0,0 +1,30 @@
+package com.fazpay.vehicle.core.pagination;
+
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.exception.BusinessException;
+
+import java.util.Locale;
+
+// Como o total das listagens paginadas é obtido (parâmetro count)
+public enum CountMode {
+    
+    // Sem contagem: só hasNext
+    NONE,
+    
+    // Conta até app.pagination.approximate-count-limit linhas; acima disso o total é um limite inferior
+    APPROXIMATE,
+    
+    // Contagem exata, em cache por filtro até a próxima escrita
+    CACHED;
+    
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return CACHED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(String.format(ErrorMessages.INVALID_COUNT_MODE, value), ex);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fazpay.vehicle.core.pagination;
+
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
+import com.fazpay.vehicle.core.exception.BusinessException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Campos aceitos na paginação por cursor (?after=) e a conversão entre o
+ * último item da página e o token opaco devolvido ao cliente. Só entram
+ * campos com índice no banco: a consulta faz seek a partir do último item
+ * (campo > ? OR (campo = ? AND id > ?)) em vez de ler e descartar as linhas
+ * anteriores, como o OFFSET, então qualquer página custa o mesmo que a primeira.
+ */
+public final class KeysetSort {
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\n";
+    
+    private final String defaultField;
+    // Campo -> leitura do valor gravado no cursor
+    private final Map<String, Function<String, Comparable<?>>> fields;
+    
+    private KeysetSort(String defaultField, Map<String, Function<String, Comparable<?>>> fields) {
+        this.defaultField = defaultField;
+        this.fields = fields;
+    }
+    
+    public static KeysetSort of(String defaultField, Map<String, Function<String, Comparable<?>>> fields) {
+        if (!fields.containsKey(defaultField)) {
+            throw new IllegalArgumentException("Default sort field must be one of " + fields.keySet());
+        }
+        return new KeysetSort(defaultField, Map.copyOf(fields));
+    }
+    
+    public String resolve(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return defaultField;
+        }
+        if (!fields.containsKey(sort)) {
+            throw new BusinessException(String.format(
+                    ErrorMessages.INVALID_CURSOR_SORT_FIELD, sort, String.join(", ", fields.keySet().stream().sorted().toList())));
+        }
+        return sort;
+    }
+    
+    public void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(String.format(ErrorMessages.INVALID_CURSOR_PAGE_SIZE, MAX_PAGE_SIZE));
+        }
+    }
+    
+    /**
+     * Ordena por campo e id (o id desempata valores repetidos) e, havendo
+     * cursor, restringe às linhas depois dele. A ordem fica na Specification,
+     * e não em sortBy, porque o fluent query do Spring Data 3.2.0 repete o
+     * ORDER BY.
+     */
+    public <E> Specification<E> after(String field, String after) {
+        Cursor<?> cursor = after == null || after.isBlank() ? null : decode(field, after);
+        return (root, query, cb) -> {
+            query.orderBy(cb.asc(root.get(field)), cb.asc(root.get(ID)));
+            if (cursor == null) {
+                return null;
+            }
+            return after(cb, root.get(field), root.get(ID), cursor);
+        };
+    }
+    
+    private static <Y extends Comparable<? super Y>> Predicate after(CriteriaBuilder cb, Path<Y> path, Path<UUID> idPath,
+                                                                    Cursor<Y> cursor) {
+        return cb.or(
+                cb.greaterThan(path, cursor.value()),
+                cb.and(cb.equal(path, cursor.value()), cb.greaterThan(idPath, cursor.id())));
+    }
+    
+    // rows vem de uma consulta com limite size + 1: a linha a mais só indica que há próxima página
+    public <E, T> CursorPageResponse<T> response(List<E> rows, String field, int size, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encode(field, page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), page.size(), field, nextCursor, hasNext);
+    }
+    
+    private String encode(String field, Object last) {
+        BeanWrapperImpl properties = new BeanWrapperImpl(last);
+        String raw = field + SEPARATOR + properties.getPropertyValue(ID) + SEPARATOR + properties.getPropertyValue(field);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private Cursor<?> decode(String field, String after) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+            // Um cursor só vale para a ordenação que o gerou
+            if (parts.length != 3 || !parts[0].equals(field)) {
+                throw new BusinessException(ErrorMessages.INVALID_CURSOR);
+            }
+            return cursor(fields.get(field).apply(parts[2]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException(ErrorMessages.INVALID_CURSOR, ex);
+        }
+    }
+    
+    // Único cast: o leitor registrado para o campo devolve o tipo do próprio atributo, comparável consigo mesmo
+    @SuppressWarnings("unchecked")
+    private static <Y extends Comparable<? super Y>> Cursor<Y> cursor(Comparable<?> value, UUID id) {
+        return new Cursor<>((Y) value, id);
+    }
+    
+    private record Cursor<Y extends Comparable<? super Y>>(Y value, UUID id) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.fazpay.vehicle.core.pagination;
+
+// Total de uma listagem paginada; total nulo quando não foi contado
+public record PageCount(Long total, boolean exact) {
+    
+    public static PageCount none() {
+        return new PageCount(null, false);
+    }
+    
+    public static PageCount exact(long total) {
+        return new PageCount(total, true);
+    }
+    
+    public static PageCount atLeast(long total) {
+        return new PageCount(total, false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fazpay.vehicle.core.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Obtém o total de uma listagem conforme o CountMode. A página em si vem de
+ * uma consulta sem COUNT (Slice); o total só é consultado quando o modo pede
+ * e não dá para deduzi-lo da própria página.
+ */
+@Component
+public class PageCounter {
+    
+    private final int approximateLimit;
+    
+    public PageCounter(@Value("${app.pagination.approximate-count-limit:1000}") int approximateLimit) {
+        this.approximateLimit = approximateLimit;
+    }
+    
+    /**
+     * @param exact contagem exata (em cache no serviço)
+     * @param upTo  conta no máximo o número de linhas recebido
+     */
+    public PageCount count(CountMode mode, Slice<?> slice, LongSupplier exact, IntToLongFunction upTo) {
+        if (mode == CountMode.NONE) {
+            return PageCount.none();
+        }
+        // Na última página o total é o offset mais o que veio nela
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return PageCount.exact((long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements());
+        }
+        if (mode == CountMode.CACHED) {
+            return PageCount.exact(exact.getAsLong());
+        }
+        long counted = upTo.applyAsLong(approximateLimit + 1);
+        return counted > approximateLimit ? PageCount.atLeast(approximateLimit) : PageCount.exact(counted);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fazpay.vehicle.core.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Id gerado como UUIDv7. Use com {@code @JdbcTypeCode(SqlTypes.BINARY)} e
+ * length 16 para gravar os bytes em ordem (BINARY(16)), e não o texto.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,82 @@
+package com.fazpay.vehicle.core.persistence;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Acompanha a leitura incremental de uma tabela por id auto-incremento. O id
+ * é alocado no INSERT, mas a linha só aparece no commit: uma transação (ou um
+ * lote inteiro) pode commitar depois de outra que pegou ids maiores. Os ids
+ * pulados ficam como lacunas e são consultados de novo até aparecerem ou até
+ * gap-timeout, quando se assume que vieram de um INSERT desfeito.
+ */
+@Slf4j
+public class IdGapTracker {
+    
+    private final long timeoutNanos;
+    private final int maxGaps;
+    private final Ticker ticker;
+    
+    // Id ainda não visto -> instante (ticker) em que deixa de ser esperado
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private long lastSeenId;
+    
+    public IdGapTracker(Duration timeout, int maxGaps) {
+        this(timeout, maxGaps, Ticker.systemTicker());
+    }
+    
+    public IdGapTracker(Duration timeout, int maxGaps, Ticker ticker) {
+        this.timeoutNanos = timeout.toNanos();
+        this.maxGaps = maxGaps;
+        this.ticker = ticker;
+    }
+    
+    public synchronized long lastSeenId() {
+        return lastSeenId;
+    }
+    
+    // Tudo até este id já foi visto ou desistido; lacunas ainda esperadas ficam acima dele
+    public synchronized long safeMark() {
+        return gaps.isEmpty() ? lastSeenId : gaps.firstKey() - 1;
+    }
+    
+    public synchronized void reset(long id) {
+        gaps.clear();
+        lastSeenId = id;
+    }
+    
+    // Ids ainda esperados; os que passaram do prazo são descartados aqui
+    public synchronized List<Long> pendingGaps() {
+        long now = ticker.read();
+        gaps.values().removeIf(deadline -> deadline - now <= 0);
+        return List.copyOf(gaps.keySet());
+    }
+    
+    public synchronized void record(long id) {
+        if (id <= lastSeenId) {
+            gaps.remove(id);
+            return;
+        }
+        
+        long deadline = ticker.read() + timeoutNanos;
+        long from = Math.max(lastSeenId + 1, id - maxGaps);
+        if (from > lastSeenId + 1) {
+            log.warn("Id jumped from {} to {}; ids below {} are no longer awaited", lastSeenId, id, from);
+        }
+        for (long missing = from; missing < id; missing++) {
+            gaps.put(missing, deadline);
+        }
+        // Limite de memória: as lacunas mais antigas saem primeiro
+        Iterator<Long> oldest = gaps.keySet().iterator();
+        while (gaps.size() > maxGaps && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+        }
+        lastSeenId = id;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fazpay.vehicle.core.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    // Buckets sem uso por este tempo são descartados (e recomeçam cheios)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    
+    private long maximumBuckets = 100_000;
+    
+    // Limite de requisições que não se encaixam em nenhuma classe
+    private Limit defaults = new Limit();
+    
+    // Classes de endpoint, avaliadas na ordem em que são declaradas
+    private Map<String, Limit> classes = new LinkedHashMap<>();
+    
+    @Data
+    public static class Limit {
+        // Padrões de caminho (estilo Ant); vazio = qualquer caminho
+        private List<String> patterns = new ArrayList<>();
+        // Métodos HTTP; vazio = qualquer método
+        private Set<String> methods = new LinkedHashSet<>();
+        // Rajada máxima
+        private long capacity = 100;
+        // Ritmo sustentado
+        private double refillPerSecond = 50;
+    }
+}
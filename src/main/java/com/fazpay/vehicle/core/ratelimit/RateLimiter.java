@@ -0,0 +1,122 @@
+package com.fazpay.vehicle.core.ratelimit;
+
+import com.fazpay.vehicle.core.ratelimit.dto.RateLimitStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limites por principal (chave de API, usuário ou IP) e por classe de endpoint.
+ * Cada par tem seu próprio {@link TokenBucket}; os contadores de métricas são
+ * LongAdder, que distribuem as escritas entre células para não disputar a
+ * mesma linha de cache.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+    
+    public static final String DEFAULT_CLASS = "default";
+    
+    private final RateLimitProperties properties;
+    private final List<EndpointClass> endpointClasses = new ArrayList<>();
+    private final EndpointClass defaultClass;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        for (Map.Entry<String, RateLimitProperties.Limit> entry : properties.getClasses().entrySet()) {
+            endpointClasses.add(new EndpointClass(entry.getKey(), entry.getValue()));
+        }
+        this.defaultClass = new EndpointClass(DEFAULT_CLASS, properties.getDefaults());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+    
+    public Decision tryAcquire(String principal, String method, String path) {
+        EndpointClass endpointClass = classify(method, path);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(endpointClass.name(), principal),
+                key -> new TokenBucket(endpointClass.limit().getCapacity(), endpointClass.limit().getRefillPerSecond(), now));
+        
+        long result = bucket.tryConsume(now);
+        if (result >= 0) {
+            endpointClass.allowed().increment();
+            return new Decision(true, endpointClass.name(), bucket.getCapacity(), result, 0);
+        }
+        
+        endpointClass.rejected().increment();
+        // Retry-After é em segundos inteiros; arredonda para cima para o cliente não voltar cedo demais
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(-result + 999_999_999L));
+        log.debug("Rate limit exceeded for {} on class {}", principal, endpointClass.name());
+        return new Decision(false, endpointClass.name(), bucket.getCapacity(), 0, retryAfterSeconds);
+    }
+    
+    public List<RateLimitStatsResponse> stats() {
+        Map<String, Long> bucketsPerClass = new HashMap<>();
+        buckets.asMap().keySet().forEach(key -> bucketsPerClass.merge(key.endpointClass(), 1L, Long::sum));
+        
+        List<RateLimitStatsResponse> stats = new ArrayList<>();
+        for (EndpointClass endpointClass : allClasses()) {
+            stats.add(RateLimitStatsResponse.builder()
+                    .endpointClass(endpointClass.name())
+                    .capacity(endpointClass.limit().getCapacity())
+                    .refillPerSecond(endpointClass.limit().getRefillPerSecond())
+                    .allowedCount(endpointClass.allowed().sum())
+                    .rejectedCount(endpointClass.rejected().sum())
+                    .activeBuckets(bucketsPerClass.getOrDefault(endpointClass.name(), 0L))
+                    .build());
+        }
+        return stats;
+    }
+    
+    private EndpointClass classify(String method, String path) {
+        for (EndpointClass endpointClass : endpointClasses) {
+            if (endpointClass.matches(method, path, pathMatcher)) {
+                return endpointClass;
+            }
+        }
+        return defaultClass;
+    }
+    
+    private List<EndpointClass> allClasses() {
+        List<EndpointClass> all = new ArrayList<>(endpointClasses);
+        all.add(defaultClass);
+        return all;
+    }
+    
+    public record Decision(boolean allowed, String endpointClass, long limit, long remaining, long retryAfterSeconds) {
+    }
+    
+    private record BucketKey(String endpointClass, String principal) {
+    }
+    
+    private record EndpointClass(String name, RateLimitProperties.Limit limit, LongAdder allowed, LongAdder rejected) {
+        
+        EndpointClass(String name, RateLimitProperties.Limit limit) {
+            this(name, limit, new LongAdder(), new LongAdder());
+        }
+        
+        boolean matches(String method, String path, AntPathMatcher pathMatcher) {
+            boolean methodMatches = limit.getMethods().isEmpty() || limit.getMethods().contains(method);
+            boolean pathMatches = limit.getPatterns().isEmpty()
+                    || limit.getPatterns().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+            return methodMatches && pathMatches;
+        }
+    }
+}
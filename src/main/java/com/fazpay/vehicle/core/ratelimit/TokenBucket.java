@@ -0,0 +1,49 @@
+package com.fazpay.vehicle.core.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem locks, na forma de GCRA: em vez de contar fichas, guarda o
+ * instante teórico em que o bucket volta a ficar cheio. Consumir uma ficha é
+ * um único compareAndSet nesse instante, então requisições concorrentes do
+ * mesmo principal nunca bloqueiam umas às outras.
+ */
+public class TokenBucket {
+    
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+    
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket needs a capacity >= 1 and a positive refill rate");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+    
+    /**
+     * Tenta consumir uma ficha. Retorna as fichas restantes (>= 0) ou, se o
+     * bucket estiver vazio, menos o tempo em nanos até a próxima ficha.
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return -(debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return (burstNanos - debt) / nanosPerToken;
+            }
+        }
+    }
+    
+    public long getCapacity() {
+        return capacity;
+    }
+}
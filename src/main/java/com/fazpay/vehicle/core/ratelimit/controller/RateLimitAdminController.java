@@ -0,0 +1,32 @@
+package com.fazpay.vehicle.core.ratelimit.controller;
+
+import com.fazpay.vehicle.core.ratelimit.RateLimiter;
+import com.fazpay.vehicle.core.ratelimit.dto.RateLimitStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/rate-limits")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Rate Limit Admin", description = "Rate limiter statistics")
+public class RateLimitAdminController {
+    
+    private final RateLimiter rateLimiter;
+    
+    @GetMapping
+    @Operation(summary = "List rate limiter statistics",
+               description = "Returns the configured limit and the allowed/rejected counters of each endpoint class")
+    public ResponseEntity<List<RateLimitStatsResponse>> findAll() {
+        log.debug("GET /api/v1/admin/rate-limits");
+        return ResponseEntity.ok(rateLimiter.stats());
+    }
+}
@@ -0,0 +1,20 @@
+package com.fazpay.vehicle.core.ratelimit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatsResponse {
+    
+    private String endpointClass;
+    private long capacity;
+    private double refillPerSecond;
+    private long allowedCount;
+    private long rejectedCount;
+    private long activeBuckets;
+}
@@ -0,0 +1,71 @@
+package com.fazpay.vehicle.core.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Autenticação de integrações por X-API-Key; um JWT válido na mesma requisição tem precedência
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+    
+    // Id da chave usada na requisição, para limites por chave e não só por usuário
+    public static final String API_KEY_ID_ATTRIBUTE = ApiKeyAuthenticationFilter.class.getName() + ".KEY_ID";
+    
+    // Gestão de chaves só com JWT: uma chave vazada não pode criar outras nem se manter viva
+    private static final String API_KEYS_PATH = "/api/v1/api-keys";
+    
+    private final ApiKeyVerifier apiKeyVerifier;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.equals(API_KEYS_PATH) || path.startsWith(API_KEYS_PATH + "/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String apiKey = request.getHeader(ApiKeyVerifier.HEADER);
+        if (StringUtils.hasText(apiKey) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                ApiKeyVerifier.VerifiedApiKey verified = apiKeyVerifier.verify(apiKey);
+                if (verified != null) {
+                    UserDetails userDetails = User.withUsername(verified.username())
+                            .password("")
+                            .authorities(UserDetailsServiceImpl.DEFAULT_AUTHORITIES)
+                            .build();
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    SecurityContextHolder.setContext(context);
+                    request.setAttribute(API_KEY_ID_ATTRIBUTE, verified.keyId());
+                    log.debug("Set authentication for API key {} of user: {}", verified.keyId(), verified.username());
+                }
+            } catch (Exception ex) {
+                log.error("Could not set API key authentication in security context", ex);
+            }
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
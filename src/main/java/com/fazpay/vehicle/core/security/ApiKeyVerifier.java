@@ -0,0 +1,124 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import com.fazpay.vehicle.apikey.repository.ApiKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Emite e verifica chaves de API no formato ovk_&lt;id&gt;.&lt;segredo&gt;. O segredo
+ * tem 256 bits aleatórios, então um HMAC-SHA256 com a chave do servidor basta
+ * (BCrypt só se justifica para senhas de baixa entropia) e a verificação custa
+ * microssegundos. O registro de cada id fica em cache por cache-ttl, que é
+ * também o atraso máximo para uma revogação feita em outro nó valer aqui.
+ */
+@Component
+public class ApiKeyVerifier {
+    
+    public static final String HEADER = "X-API-Key";
+    
+    private static final String PREFIX = "ovk_";
+    private static final char SEPARATOR = '.';
+    private static final int KEY_ID_BYTES = 8;
+    private static final int SECRET_BYTES = 32;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    
+    private final ApiKeyRepository repository;
+    private final SecretKeySpec hmacKey;
+    private final ThreadLocal<Mac> mac;
+    private final SecureRandom random = new SecureRandom();
+    
+    // Id da chave -> hash do segredo; ids desconhecidos ou revogados ficam como vazio
+    private final Cache<String, Optional<StoredKey>> storedKeys;
+    
+    public ApiKeyVerifier(ApiKeyRepository repository,
+                          @Value("${app.security.api-keys.hmac-secret}") String hmacSecret,
+                          @Value("${app.security.api-keys.cache-ttl:60s}") Duration cacheTtl,
+                          @Value("${app.security.api-keys.cache-maximum-size:10000}") long cacheMaximumSize) {
+        this.repository = repository;
+        this.hmacKey = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        this.storedKeys = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+    
+    public IssuedApiKey issue() {
+        byte[] keyId = new byte[KEY_ID_BYTES];
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(keyId);
+        random.nextBytes(secret);
+        
+        String id = HexFormat.of().formatHex(keyId);
+        String encodedSecret = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        return new IssuedApiKey(id, PREFIX + id + SEPARATOR + encodedSecret, HexFormat.of().formatHex(hmac(encodedSecret)));
+    }
+    
+    /**
+     * Retorna o id e o dono da chave, ou null se ela for malformada,
+     * desconhecida, revogada ou tiver o segredo errado.
+     */
+    public VerifiedApiKey verify(String apiKey) {
+        int separator = apiKey != null ? apiKey.indexOf(SEPARATOR) : -1;
+        if (separator != PREFIX.length() + KEY_ID_BYTES * 2 || !apiKey.startsWith(PREFIX)) {
+            return null;
+        }
+        
+        String keyId = apiKey.substring(PREFIX.length(), separator);
+        StoredKey stored = storedKeys.get(keyId, this::load).orElse(null);
+        if (stored == null) {
+            return null;
+        }
+        
+        // Comparação em tempo constante
+        byte[] presented = hmac(apiKey.substring(separator + 1));
+        return MessageDigest.isEqual(presented, stored.secretHash()) ? new VerifiedApiKey(keyId, stored.username()) : null;
+    }
+    
+    public void invalidate(String keyId) {
+        storedKeys.invalidate(keyId);
+    }
+    
+    private Optional<StoredKey> load(String keyId) {
+        return repository.findByKeyId(keyId)
+                .filter(ApiKey::isActive)
+                .map(key -> new StoredKey(key.getUsername(), HexFormat.of().parseHex(key.getSecretHash())));
+    }
+    
+    private byte[] hmac(String secret) {
+        return mac.get().doFinal(secret.getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(hmacKey);
+            return instance;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+    
+    public record IssuedApiKey(String keyId, String apiKey, String secretHash) {
+    }
+    
+    public record VerifiedApiKey(String keyId, String username) {
+    }
+    
+    private record StoredKey(String username, byte[] secretHash) {
+    }
+}
@@ -6,8 +6,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -24,6 +27,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+    
+    // Só durante a migração: tokens sem jti não entram na denylist e sobreviveriam ao logout
+    @Value("${jwt.accept-tokens-without-id:false}")
+    private boolean acceptTokensWithoutId;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,16 +40,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Uma única verificação por requisição (ou nenhuma, se o token já foi verificado)
+            VerifiedToken verifiedToken = StringUtils.hasText(jwt) ? tokenProvider.verifyToken(jwt) : null;
+            // Refresh tokens só servem para /auth/refresh
+            if (verifiedToken != null && verifiedToken.isAccessToken() && isAccepted(verifiedToken)) {
+                UserDetails userDetails = toUserDetails(verifiedToken);
                 UsernamePasswordAuthenticationToken authentication = 
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set authentication for user: {}", username);
+                // Contexto novo por requisição, sem reaproveitar uma autenticação anterior
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                log.debug("Set authentication for user: {}", verifiedToken.username());
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -50,6 +62,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private boolean isAccepted(VerifiedToken verifiedToken) {
+        if (!verifiedToken.isRevocable()) {
+            return acceptTokensWithoutId;
+        }
+        return !tokenDenylist.isRevoked(verifiedToken.tokenId());
+    }
+    
+    // Authorities vêm do token; só tokens do formato anterior ainda consultam o banco
+    private UserDetails toUserDetails(VerifiedToken verifiedToken) {
+        if (verifiedToken.authorities() == null) {
+            return userDetailsService.loadUserByUsername(verifiedToken.username());
+        }
+        return User.withUsername(verifiedToken.username())
+                .password("")
+                .authorities(verifiedToken.authorities().toArray(String[]::new))
+                .build();
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,5 +1,8 @@
 package com.fazpay.vehicle.core.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.JwtException;
@@ -7,11 +10,21 @@ import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -20,64 +33,171 @@ public class JwtTokenProvider {
     @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationWithAtLeast256BitsLength12345}")
     private String jwtSecret;
     
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    
+    @Value("${jwt.expiration:900000}") // 15 minutes in milliseconds
     private long jwtExpiration;
     
+    @Value("${jwt.refresh-expiration:604800000}") // 7 days in milliseconds
+    private long refreshExpiration;
+    
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+    
     private SecretKey key;
     
+    // JwtParser é imutável e thread-safe; montado uma única vez
+    private JwtParser parser;
+    
+    // Hash do token -> dados já verificados, até o exp do próprio token
+    private Cache<String, VerifiedToken> verifiedTokens;
+    
+    private final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(JwtTokenProvider::newSha256);
+    
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
     
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return generateAccessToken(userDetails.getUsername(), authentication.getAuthorities());
+    }
+    
+    public String generateToken(String username) {
+        return generateAccessToken(username, UserDetailsServiceImpl.DEFAULT_AUTHORITIES);
+    }
+    
+    // Access token curto e autossuficiente: o filtro monta a autenticação só com as claims
+    public String generateAccessToken(String username, Collection<? extends GrantedAuthority> authorities) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
         
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(username)
+                .claim(TOKEN_TYPE_CLAIM, TokenType.ACCESS.name())
+                .claim(AUTHORITIES_CLAIM, authorities.stream().map(GrantedAuthority::getAuthority).toList())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    public String generateToken(String username) {
+    // Refresh token longo, sem authorities: cada renovação volta ao banco
+    public String generateRefreshToken(String username) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        Date expiryDate = new Date(now.getTime() + refreshExpiration);
         
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
+                .claim(TOKEN_TYPE_CLAIM, TokenType.REFRESH.name())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public long getAccessTokenExpirationSeconds() {
+        return jwtExpiration / 1000;
+    }
+    
+    /**
+     * Verifica assinatura e expiração uma única vez por token. Tokens válidos
+     * ficam no cache até expirarem; tokens inválidos nunca são cacheados.
+     * Retorna null se o token não for válido.
+     */
+    public VerifiedToken verifyToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
         
-        return claims.getSubject();
+        VerifiedToken verified = parseToken(token);
+        if (verified != null && verified.expiresAt() != null) {
+            verifiedTokens.put(tokenHash, verified);
+        }
+        return verified;
+    }
+    
+    public String getUsernameFromToken(String token) {
+        return parser.parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
     }
     
     public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+    
+    // Caminho sem cache: uma passada de parse e verificação de HMAC
+    VerifiedToken parseToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(), tokenType(claims), claims.getId(), authorities(claims),
+                    expiration != null ? expiration.toInstant() : null);
         } catch (JwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
+    }
+    
+    // Tokens sem a claim são do formato anterior, que só existia como access token
+    private TokenType tokenType(Claims claims) {
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        return type != null ? TokenType.valueOf(type) : TokenType.ACCESS;
+    }
+    
+    private List<String> authorities(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        return authorities != null ? authorities.stream().map(String::valueOf).toList() : null;
+    }
+    
+    private String hash(String token) {
+        return HexFormat.of().formatHex(sha256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+    
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+    
+    // A entrada vive exatamente até o exp do token
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String tokenHash, VerifiedToken verified, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+        }
+        
+        @Override
+        public long expireAfterUpdate(String tokenHash, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, verified, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String tokenHash, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
-
@@ -0,0 +1,22 @@
+package com.fazpay.vehicle.core.security;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * O {@link DaoAuthenticationProvider} padrão, com o BCrypt rodando no
+ * {@link PasswordHashingExecutor}. Mantém as checagens de {@link org.springframework.security.core.userdetails.UserDetails}
+ * (conta desativada, bloqueada ou expirada) e os eventos de autenticação do
+ * AuthenticationManager; só o hash sai da thread da requisição. A busca do
+ * usuário tem transação própria, encerrada antes do hash.
+ */
+@Component
+public class PasswordHashingAuthenticationProvider extends DaoAuthenticationProvider {
+    
+    public PasswordHashingAuthenticationProvider(UserDetailsService userDetailsService,
+                                                 PasswordHashingExecutor passwordHasher) {
+        super(passwordHasher.asPasswordEncoder());
+        setUserDetailsService(userDetailsService);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa o BCrypt (matches/encode) em um pool dedicado e limitado. O hash é
+ * lento de propósito e usa CPU: sem limite, uma rajada de logins ocupa as
+ * threads do Tomcat e a CPU das rotas de CRUD. Com a fila cheia, ou se a espera
+ * passar do timeout, a chamada falha na hora com {@link ServiceOverloadedException}.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+    
+    private static final long RETRY_AFTER_SECONDS = 1;
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final String unknownUserHash;
+    private final LongAdder rejectedCount = new LongAdder();
+    
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${app.security.hashing.threads:0}") int threads,
+                                   @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        // Por padrão, metade dos núcleos: o restante fica para as requisições de CRUD
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        // Usuário inexistente paga o mesmo custo de hash, para não revelar quais usernames existem
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+    
+    // encodedPassword null = usuário inexistente; sempre retorna false nesse caso
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            call(() -> passwordEncoder.matches(rawPassword, unknownUserHash));
+            return false;
+        }
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    public String encode(CharSequence rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    // Para o AuthenticationManager: mesmo contrato do PasswordEncoder, com o hash no pool limitado
+    public PasswordEncoder asPasswordEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return PasswordHashingExecutor.this.encode(rawPassword);
+            }
+            
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return PasswordHashingExecutor.this.matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+    
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejectedCount.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceOverloadedException(ErrorMessages.AUTHENTICATION_OVERLOADED, RETRY_AFTER_SECONDS);
+        }
+        
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejectedCount.increment();
+            log.warn("Password hashing did not finish within {}, rejecting request", timeout);
+            throw new ServiceOverloadedException(ErrorMessages.AUTHENTICATION_OVERLOADED, RETRY_AFTER_SECONDS);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
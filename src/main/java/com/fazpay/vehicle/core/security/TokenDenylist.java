@@ -0,0 +1,154 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.core.persistence.IdGapTracker;
+import com.fazpay.vehicle.core.security.model.RevokedToken;
+import com.fazpay.vehicle.core.security.repository.RevokedTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Denylist de tokens revogados, por jti. A tabela tokens_revogados é a fonte
+ * da verdade; na requisição, o Bloom filter em memória descarta quase todos os
+ * tokens sem ir ao banco, e só um possível acerto é confirmado com uma consulta
+ * exata (cujo resultado fica em cache). Revogações feitas em outros nós chegam
+ * por polling da tabela. A constraint única de token_id decide qual chamada
+ * revoga um token, o que torna a rotação de refresh tokens de uso único.
+ */
+@Component
+@Slf4j
+public class TokenDenylist {
+    
+    private static final int MAX_GAPS = 10_000;
+    // Na carga inicial, revogações ainda sem commit abaixo do maior id não estão no filtro
+    private static final long STARTUP_GAPS = 1_000;
+    
+    private final RevokedTokenRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Cache<String, Boolean> exactLookups;
+    private volatile BloomFilter filter;
+    // Linhas com id menor podem ser commitadas depois de outras já lidas
+    private final IdGapTracker idGaps;
+    
+    public TokenDenylist(RevokedTokenRepository repository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+                         @Value("${jwt.denylist.false-positive-probability:0.01}") double falsePositiveProbability,
+                         @Value("${jwt.denylist.gap-timeout:30s}") Duration gapTimeout) {
+        this.repository = repository;
+        // Transação própria: um INSERT duplicado não marca como rollback-only a transação de quem chamou
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        // Um resultado negativo só muda por revogação, e toda revogação vista atualiza este cache
+        this.exactLookups = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.idGaps = new IdGapTracker(gapTimeout, MAX_GAPS);
+    }
+    
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+    
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return exactLookups.get(tokenId, repository::existsByTokenId);
+    }
+    
+    // true só para a chamada que gravou a revogação; false se o token já estava revogado ou não tem jti
+    public boolean revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            log.warn("Cannot revoke token of user {}: it has no token id", token.username());
+            return false;
+        }
+        
+        boolean revoked;
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAndFlush(RevokedToken.builder()
+                    .tokenId(token.tokenId())
+                    .username(token.username())
+                    .expiresAt(LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()))
+                    .build()));
+            revoked = true;
+            log.info("Revoked token {} of user {}", token.tokenId(), token.username());
+        } catch (DataIntegrityViolationException ex) {
+            revoked = false;
+            log.debug("Token {} was already revoked", token.tokenId());
+        }
+        markRevoked(token.tokenId());
+        return revoked;
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.denylist.sync-interval:5000}")
+    public void syncRemoteRevocations() {
+        List<Long> gaps = idGaps.pendingGaps();
+        if (!gaps.isEmpty()) {
+            markRevoked(repository.findByIdInOrderByIdAsc(gaps));
+        }
+        markRevoked(repository.findTop500ByIdGreaterThanOrderByIdAsc(idGaps.lastSeenId()));
+    }
+    
+    // Bloom filter não remove itens: tokens expirados só saem com a reconstrução
+    @Scheduled(fixedDelayString = "${jwt.denylist.cleanup-interval:3600000}",
+               initialDelayString = "${jwt.denylist.cleanup-interval:3600000}")
+    public void cleanup() {
+        int removed = repository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) {
+            log.debug("Removed {} expired revoked tokens", removed);
+            rebuild();
+        }
+    }
+    
+    public synchronized void rebuild() {
+        long maxId = repository.findMaxId();
+        List<String> tokenIds = repository.findActiveTokenIds(LocalDateTime.now());
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, tokenIds.size() * 2L), falsePositiveProbability);
+        tokenIds.forEach(rebuilt::put);
+        filter = rebuilt;
+        // Revogações entre findMaxId e a troca do filtro são lidas pelo próximo sync
+        long lastSeenId = idGaps.lastSeenId();
+        if (maxId > lastSeenId) {
+            if (lastSeenId == 0) {
+                idGaps.reset(Math.max(0, maxId - STARTUP_GAPS));
+            }
+            idGaps.record(maxId);
+        }
+        exactLookups.invalidateAll();
+        log.info("Rebuilt revoked token filter with {} active revocations ({} bits, {} hashes)",
+                 tokenIds.size(), rebuilt.bitCount(), rebuilt.hashCount());
+    }
+    
+    private void markRevoked(List<RevokedToken> revocations) {
+        for (RevokedToken revocation : revocations) {
+            idGaps.record(revocation.getId());
+            markRevoked(revocation.getTokenId());
+        }
+    }
+    
+    private void markRevoked(String tokenId) {
+        filter.put(tokenId);
+        exactLookups.put(tokenId, Boolean.TRUE);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fazpay.vehicle.core.security;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
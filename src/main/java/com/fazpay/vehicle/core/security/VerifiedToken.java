@@ -0,0 +1,24 @@
+package com.fazpay.vehicle.core.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Dados de um JWT cuja assinatura e expiração já foram verificadas.
+ * authorities é null em tokens emitidos antes de as authorities irem no token;
+ * tokenId é null em tokens emitidos antes do jti, que não podem ser revogados.
+ */
+public record VerifiedToken(String username, TokenType type, String tokenId, List<String> authorities, Instant expiresAt) {
+    
+    public boolean isAccessToken() {
+        return type == TokenType.ACCESS;
+    }
+    
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+    
+    public boolean isRevocable() {
+        return tokenId != null;
+    }
+}
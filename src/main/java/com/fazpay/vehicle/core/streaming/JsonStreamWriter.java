@@ -0,0 +1,100 @@
+package com.fazpay.vehicle.core.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Escreve listagens completas direto na resposta, item a item, como NDJSON
+ * (Accept: application/x-ndjson) ou como um array JSON. A escrita bloqueia
+ * enquanto o cliente não consome, e com ela a leitura do cursor no banco:
+ * a memória usada não depende do tamanho da tabela. Em troca, cada exportação
+ * prende uma conexão do pool até terminar: por isso há um limite de exportações
+ * simultâneas e um prazo máximo para cada uma, independente do resto da API.
+ */
+@Component
+@Slf4j
+public class JsonStreamWriter {
+    
+    private static final long RETRY_AFTER_SECONDS = 5;
+    
+    private final ObjectMapper objectMapper;
+    private final Semaphore exports;
+    private final Duration timeout;
+    
+    public JsonStreamWriter(ObjectMapper objectMapper,
+                            @Value("${app.streaming.max-concurrent:4}") int maxConcurrent,
+                            @Value("${app.streaming.timeout:2m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.exports = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+    }
+    
+    // A fonte recebe o consumidor de cada item e só retorna ao fim da leitura
+    public <T> ResponseEntity<StreamingResponseBody> stream(HttpHeaders requestHeaders, Consumer<Consumer<T>> source) {
+        // Recusa antes de abrir a resposta (503); a vaga é devolvida quando o corpo termina
+        if (!exports.tryAcquire()) {
+            throw new ServiceOverloadedException(ErrorMessages.STREAMING_OVERLOADED, RETRY_AFTER_SECONDS);
+        }
+        boolean ndjson = requestHeaders.getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        StreamingResponseBody body = out -> {
+            try {
+                write(out, ndjson, source);
+            } finally {
+                exports.release();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    private <T> void write(OutputStream out, boolean ndjson, Consumer<Consumer<T>> source) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Sem o espaço que o Jackson põe entre valores na raiz; no NDJSON cada item termina a linha
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            source.accept(item -> {
+                try {
+                    // Cliente lento demais: interrompe em vez de segurar a conexão do banco
+                    if (System.nanoTime() - deadline >= 0) {
+                        log.warn("Aborting streaming export after {}", timeout);
+                        throw new IOException("Streaming export exceeded " + timeout);
+                    }
+                    generator.writeObject(item);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        } catch (UncheckedIOException ex) {
+            // Cliente desconectou ou estourou o prazo: a transação da leitura é desfeita e o cursor fechado
+            throw ex.getCause();
+        }
+    }
+}
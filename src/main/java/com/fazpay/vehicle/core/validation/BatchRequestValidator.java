@@ -0,0 +1,60 @@
+package com.fazpay.vehicle.core.validation;
+
+import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.exception.BusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Validação dos endpoints de lote: o tamanho do lote invalida a requisição
+ * inteira, mas erros de Bean Validation ficam por item, para que os itens
+ * válidos ainda sejam criados.
+ */
+@Component
+public class BatchRequestValidator {
+    
+    private final Validator validator;
+    private final int maxSize;
+    
+    public BatchRequestValidator(Validator validator, @Value("${app.batch.max-size:1000}") int maxSize) {
+        this.validator = validator;
+        this.maxSize = maxSize;
+    }
+    
+    public void validateSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorMessages.BATCH_EMPTY);
+        }
+        if (items.size() > maxSize) {
+            throw new BusinessException(String.format(ErrorMessages.BATCH_TOO_LARGE, maxSize));
+        }
+    }
+    
+    // Uma lista de erros por item, na mesma ordem; vazia se o item é válido
+    public List<List<String>> validateItems(List<?> items) {
+        List<List<String>> errors = new ArrayList<>(items.size());
+        for (Object item : items) {
+            List<String> itemErrors = new ArrayList<>();
+            if (item == null) {
+                itemErrors.add(ErrorMessages.BATCH_ITEM_NULL);
+            } else {
+                validator.validate(item).stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .map(this::format)
+                        .forEach(itemErrors::add);
+            }
+            errors.add(itemErrors);
+        }
+        return errors;
+    }
+    
+    private String format(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
@@ -1,6 +1,14 @@
 package com.fazpay.vehicle.customer.controller;
 
+import com.fazpay.vehicle.core.cache.response.CachedResponseBody;
+import com.fazpay.vehicle.core.cache.response.EncodedResponseCache;
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.core.dto.PageResponse;
+import com.fazpay.vehicle.core.pagination.CountMode;
+import com.fazpay.vehicle.core.pagination.PageCount;
+import com.fazpay.vehicle.core.pagination.PageCounter;
+import com.fazpay.vehicle.core.streaming.JsonStreamWriter;
 import com.fazpay.vehicle.customer.dto.CustomerPatchRequest;
 import com.fazpay.vehicle.customer.dto.CustomerRequest;
 import com.fazpay.vehicle.customer.dto.CustomerResponse;
@@ -11,13 +19,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,13 +42,18 @@ import java.util.UUID;
 public class CustomerController {
     
     private final ICustomerService customerService;
+    private final EncodedResponseCache encodedResponseCache;
+    private final PageCounter pageCounter;
+    private final JsonStreamWriter jsonStreamWriter;
     
     @GetMapping
+    @CachedResponseBody
     @Operation(
         summary = "List customers with pagination and filters",
         description = "Returns a paginated list of customers. " +
                       "Optional filters: nome, dataCriacao. " +
-                      "Optional sort: field name (default: nome). Example: ?page=0&size=10&sort=nome"
+                      "Optional sort: field name (default: nome). Example: ?page=0&size=10&sort=nome. " +
+                      "Optional count: cached (default), approximate or none. Example: ?page=0&size=10&count=none"
     )
     public ResponseEntity<PageResponse<CustomerResponse>> findAll(
             @Parameter(description = "Filter by customer name (partial match)")
@@ -53,38 +69,65 @@ public class CustomerController {
             @RequestParam(defaultValue = "10") int size,
             
             @Parameter(description = "Sort field (optional). Available: nome, cpf, email, createdAt")
-            @RequestParam(required = false) String sort) {
+            @RequestParam(required = false) String sort,
+            
+            @Parameter(description = "Total count: cached (default, exact), approximate (exact up to a limit) or none (hasNext only)")
+            @RequestParam(required = false) String count) {
         
         log.debug("GET /api/v1/clientes - page: {}, size: {}", page, size);
         
+        CountMode countMode = CountMode.from(count);
         PageRequest pageable = sort != null 
             ? PageRequest.of(page, size, Sort.by(sort))
             : PageRequest.of(page, size, Sort.by("nome"));
         
-        Page<CustomerResponse> pageResult = customerService.findWithFilters(nome, dataCriacao, pageable);
+        Slice<CustomerResponse> pageResult = customerService.findWithFilters(nome, dataCriacao, pageable);
+        PageCount total = pageCounter.count(countMode, pageResult,
+                () -> customerService.countWithFilters(nome, dataCriacao),
+                limit -> customerService.countWithFiltersUpTo(nome, dataCriacao, limit));
         
-        PageResponse<CustomerResponse> response = new PageResponse<>(
-            pageResult.getContent(),
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.getTotalPages(),
-            pageResult.isFirst(),
-            pageResult.isLast()
-        );
+        PageResponse<CustomerResponse> response = encodedResponseCache.pageResponse(pageResult, total);
         
         return ResponseEntity.ok(response);
     }
     
-    @GetMapping("/all")
-    @Operation(summary = "List all customers without pagination")
-    public ResponseEntity<List<CustomerResponse>> findAllWithoutPagination() {
+    @GetMapping(params = "after")
+    @Operation(
+        summary = "List customers with cursor pagination and filters",
+        description = "Keyset pagination: start with ?after= and pass the returned nextCursor as after to get the next page. " +
+                      "Every page costs the same as the first one. Optional filters: nome, dataCriacao. " +
+                      "Sort (default: nome) must be an indexed field: nome, cpf, email, createdAt"
+    )
+    public ResponseEntity<CursorPageResponse<CustomerResponse>> findAllAfter(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page (empty for the first page)")
+            @RequestParam String after,
+            
+            @Parameter(description = "Filter by customer name (partial match)")
+            @RequestParam(required = false) String nome,
+            
+            @Parameter(description = "Filter by creation date (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataCriacao,
+            
+            @Parameter(description = "Page size (default: 10, max: 100)")
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Sort field (optional). Available: nome, cpf, email, createdAt")
+            @RequestParam(required = false) String sort) {
+        
+        log.debug("GET /api/v1/clientes?after - size: {}", size);
+        return ResponseEntity.ok(customerService.findWithFiltersAfter(nome, dataCriacao, sort, after, size));
+    }
+    
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "List all customers without pagination",
+               description = "Streamed from a database cursor; send Accept: application/x-ndjson for one JSON object per line")
+    public ResponseEntity<StreamingResponseBody> findAllWithoutPagination(@RequestHeader HttpHeaders headers) {
         log.debug("GET /api/v1/clientes/all");
-        List<CustomerResponse> customers = customerService.findAll();
-        return ResponseEntity.ok(customers);
+        return jsonStreamWriter.stream(headers, customerService::streamAll);
     }
     
     @GetMapping("/{id}")
+    @CachedResponseBody
     @Operation(summary = "Get customer by ID")
     public ResponseEntity<CustomerResponse> findById(@PathVariable UUID id) {
         log.debug("GET /api/v1/clientes/{}", id);
@@ -100,6 +143,16 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(customer);
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Create customers in batch",
+               description = "Creates up to app.batch.max-size customers in one request and reports the result of each item. " +
+                             "Returns 201 when every item was created and 207 when some failed.")
+    public ResponseEntity<BatchResponse<CustomerResponse>> createBatch(@RequestBody List<CustomerRequest> requests) {
+        log.info("POST /api/v1/clientes/batch - {} items", requests.size());
+        BatchResponse<CustomerResponse> response = customerService.createBatch(requests);
+        return ResponseEntity.status(response.isAllCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(response);
+    }
+    
     @PatchMapping("/{id}")
     @Operation(summary = "Update customer (partial update)", 
                description = "Update one or more customer fields. All fields are optional.")
@@ -1,5 +1,6 @@
 package com.fazpay.vehicle.customer.model;
 
+import com.fazpay.vehicle.core.persistence.GeneratedUuidV7;
 import com.fazpay.vehicle.core.validation.ValidCpf;
 import com.fazpay.vehicle.core.validation.ValidTelefone;
 import jakarta.persistence.*;
@@ -31,9 +32,9 @@ import java.util.UUID;
 public class Customer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", updatable = false, nullable = false, length = 36)
+    @GeneratedUuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
     private UUID id;
     
     @NotBlank(message = "Nome é obrigatório")
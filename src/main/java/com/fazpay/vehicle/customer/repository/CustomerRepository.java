@@ -1,8 +1,10 @@
 package com.fazpay.vehicle.customer.repository;
 
+import com.fazpay.vehicle.customer.dto.CustomerResponse;
 import com.fazpay.vehicle.customer.model.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -10,12 +12,14 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer>,
+        CustomerResponseRepository {
     
     Optional<Customer> findByCpf(String cpf);
     
@@ -25,13 +29,39 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSp
     
     boolean existsByEmail(String email);
     
-    @Query("SELECT c FROM Customer c WHERE " +
-           "(:nome IS NULL OR LOWER(c.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) AND " +
-           "(:dataCriacao IS NULL OR DATE(c.createdAt) = DATE(:dataCriacao))")
-    Page<Customer> findWithFilters(@Param("nome") String nome, 
-                                   @Param("dataCriacao") LocalDateTime dataCriacao,
-                                   Pageable pageable);
+    // Nativa para incluir clientes removidos, que as constraints UNIQUE também consideram
+    @Query(value = "SELECT cpf, email FROM clientes WHERE cpf IN (:cpfs) OR email IN (:emails)", nativeQuery = true)
+    List<CpfAndEmail> findExistingCpfsAndEmails(@Param("cpfs") Collection<String> cpfs,
+                                                @Param("emails") Collection<String> emails);
     
-    List<Customer> findAllByDeletedAtIsNull();
+    String FILTERS = "(:nome IS NULL OR LOWER(c.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) AND " +
+                     "(:dataCriacao IS NULL OR DATE(c.createdAt) = DATE(:dataCriacao))";
+    
+    // Slice: sem o COUNT derivado, que custaria tanto quanto a própria página
+    @Query(RESPONSE + " WHERE " + FILTERS)
+    Slice<CustomerResponse> findResponsesWithFilters(@Param("nome") String nome,
+                                                     @Param("dataCriacao") LocalDateTime dataCriacao,
+                                                     Pageable pageable);
+    
+    @Query("SELECT COUNT(c) FROM Customer c WHERE " + FILTERS)
+    long countWithFilters(@Param("nome") String nome,
+                          @Param("dataCriacao") LocalDateTime dataCriacao);
+    
+    // Só os ids e com limite, para contar no máximo pageable.getPageSize() linhas
+    @Query("SELECT c.id FROM Customer c WHERE " + FILTERS)
+    List<UUID> findIdsWithFilters(@Param("nome") String nome,
+                                  @Param("dataCriacao") LocalDateTime dataCriacao,
+                                  Pageable pageable);
+    
+    // Paginada com @Query, para o Spring Data aplicar a ordenação pedida
+    @Query(value = RESPONSE + " WHERE c.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.deletedAt IS NULL")
+    Page<CustomerResponse> findAllResponses(Pageable pageable);
+    
+    interface CpfAndEmail {
+        String getCpf();
+        
+        String getEmail();
+    }
 }
 
@@ -0,0 +1,25 @@
+package com.fazpay.vehicle.customer.repository;
+
+import com.fazpay.vehicle.customer.dto.CustomerResponse;
+import com.fazpay.vehicle.customer.model.Customer;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Leituras direto em CustomerResponse, sem entidades no contexto de persistência
+public interface CustomerResponseRepository {
+    
+    String RESPONSE = "SELECT new com.fazpay.vehicle.customer.dto.CustomerResponse(" +
+                      "c.id, c.nome, c.cpf, c.email, c.telefone, c.createdAt, c.updatedAt) FROM Customer c";
+    
+    Optional<CustomerResponse> findResponseById(UUID id);
+    
+    // Cursor só de avanço; deve ser consumido e fechado dentro da transação
+    Stream<CustomerResponse> streamAllResponses();
+    
+    // Para consultas montadas com Specification (cursor), que também define a ordenação
+    List<CustomerResponse> findResponses(Specification<Customer> specification, int limit);
+}
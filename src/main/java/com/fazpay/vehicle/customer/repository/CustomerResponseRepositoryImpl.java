@@ -0,0 +1,63 @@
+package com.fazpay.vehicle.customer.repository;
+
+import com.fazpay.vehicle.customer.dto.CustomerResponse;
+import com.fazpay.vehicle.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Fora de @Query: o Spring Data 3.2.0 reinterpreta a JPQL a cada chamada, e aqui a
+// tradução fica no cache de planos do Hibernate
+class CustomerResponseRepositoryImpl implements CustomerResponseRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.streaming.fetch-size:500}")
+    private int fetchSize;
+    
+    @Override
+    public Optional<CustomerResponse> findResponseById(UUID id) {
+        return entityManager.createQuery(RESPONSE + " WHERE c.id = :id", CustomerResponse.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+    
+    @Override
+    public Stream<CustomerResponse> streamAllResponses() {
+        return entityManager.createQuery(RESPONSE + " WHERE c.deletedAt IS NULL", CustomerResponse.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+    
+    // Mesmas colunas de RESPONSE, em Criteria para aceitar a Specification
+    @Override
+    public List<CustomerResponse> findResponses(Specification<Customer> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerResponse> query = cb.createQuery(CustomerResponse.class);
+        Root<Customer> root = query.from(Customer.class);
+        query.select(cb.construct(CustomerResponse.class,
+                root.get("id"), root.get("nome"), root.get("cpf"), root.get("email"), root.get("telefone"),
+                root.get("createdAt"), root.get("updatedAt")));
+        
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
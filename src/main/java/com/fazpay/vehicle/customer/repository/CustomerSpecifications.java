@@ -0,0 +1,38 @@
+package com.fazpay.vehicle.customer.repository;
+
+import com.fazpay.vehicle.customer.model.Customer;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Mesmos filtros de CustomerRepository.findResponsesWithFilters, para consultas com cursor
+public final class CustomerSpecifications {
+    
+    private CustomerSpecifications() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+    
+    // O nome já deve vir normalizado (CacheKeys.normalize)
+    public static Specification<Customer> withFilters(String nome, LocalDateTime dataCriacao) {
+        return Specification.where(nameContains(nome)).and(createdOn(dataCriacao));
+    }
+    
+    private static Specification<Customer> nameContains(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(cb.lower(root.get("nome")), "%" + nome + "%");
+    }
+    
+    // Intervalo do dia em vez de DATE(created_at), para poder usar o índice
+    private static Specification<Customer> createdOn(LocalDateTime dataCriacao) {
+        if (dataCriacao == null) {
+            return null;
+        }
+        LocalDate day = dataCriacao.toLocalDate();
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), day.atStartOfDay()),
+                cb.lessThan(root.get("createdAt"), day.plusDays(1).atStartOfDay()));
+    }
+}
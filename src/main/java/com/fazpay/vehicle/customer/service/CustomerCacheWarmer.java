@@ -0,0 +1,30 @@
+package com.fazpay.vehicle.customer.service;
+
+import com.fazpay.vehicle.core.cache.CacheWarmer;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerCacheWarmer implements CacheWarmer {
+    
+    private final ICustomerService customerService;
+    
+    @Override
+    public String cacheName() {
+        return CacheNames.CUSTOMERS;
+    }
+    
+    @Override
+    public boolean supports(Object key) {
+        return key instanceof UUID;
+    }
+    
+    @Override
+    public void warm(Object key) {
+        customerService.findById((UUID) key);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fazpay.vehicle.customer.service;
+
+import com.fazpay.vehicle.core.cache.BinaryFields;
+import com.fazpay.vehicle.core.cache.OffHeapCodec;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.customer.dto.CustomerResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Páginas não vão para o off-heap; só clientes individuais
+@Component
+public class CustomerResponseOffHeapCodec implements OffHeapCodec {
+    
+    private static final byte VERSION = 1;
+    
+    @Override
+    public String cacheName() {
+        return CacheNames.CUSTOMERS;
+    }
+    
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof CustomerResponse;
+    }
+    
+    @Override
+    public byte[] encode(Object value) {
+        CustomerResponse customer = (CustomerResponse) value;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            BinaryFields.writeUuid(out, customer.getId());
+            BinaryFields.writeString(out, customer.getNome());
+            BinaryFields.writeString(out, customer.getCpf());
+            BinaryFields.writeString(out, customer.getEmail());
+            BinaryFields.writeString(out, customer.getTelefone());
+            BinaryFields.writeDateTime(out, customer.getCreatedAt());
+            BinaryFields.writeDateTime(out, customer.getUpdatedAt());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+    
+    @Override
+    public Object decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported customer off-heap format: " + version);
+            }
+            return CustomerResponse.builder()
+                    .id(BinaryFields.readUuid(in))
+                    .nome(BinaryFields.readString(in))
+                    .cpf(BinaryFields.readString(in))
+                    .email(BinaryFields.readString(in))
+                    .telefone(BinaryFields.readString(in))
+                    .createdAt(BinaryFields.readDateTime(in))
+                    .updatedAt(BinaryFields.readDateTime(in))
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,76 +1,133 @@
 package com.fazpay.vehicle.customer.service;
 
+import com.fazpay.vehicle.core.cache.CacheInvalidator;
+import com.fazpay.vehicle.core.cache.CacheKeys;
 import com.fazpay.vehicle.core.constants.CacheNames;
 import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.dto.BatchItemResult;
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.core.exception.BusinessException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.fazpay.vehicle.core.pagination.KeysetSort;
+import com.fazpay.vehicle.core.validation.BatchRequestValidator;
 import com.fazpay.vehicle.customer.dto.CustomerPatchRequest;
 import com.fazpay.vehicle.customer.dto.CustomerRequest;
 import com.fazpay.vehicle.customer.dto.CustomerResponse;
 import com.fazpay.vehicle.customer.mapper.CustomerMapper;
 import com.fazpay.vehicle.customer.model.Customer;
 import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.customer.repository.CustomerSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CustomerServiceImpl implements ICustomerService {
     
+    // Ordenações com índice em clientes (ver sql/ddl.sql)
+    private static final KeysetSort CURSOR_SORT = KeysetSort.of("nome", Map.of(
+            "nome", value -> value,
+            "cpf", value -> value,
+            "email", value -> value,
+            "createdAt", LocalDateTime::parse));
+    
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CacheInvalidator cacheInvalidator;
+    private final BatchRequestValidator batchRequestValidator;
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.CUSTOMERS, key = "'all_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = CacheNames.CUSTOMERS, key = "@cacheKeys.page('customers', 'all', #pageable)", sync = true)
     public Page<CustomerResponse> findAll(Pageable pageable) {
         log.debug("Finding all customers with pagination - page: {}, size: {}", 
                   pageable.getPageNumber(), pageable.getPageSize());
-        return customerRepository.findAll(pageable)
-                .map(customerMapper::toResponse);
+        return customerRepository.findAllResponses(pageable);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<CustomerResponse> findWithFilters(String nome, LocalDateTime dataCriacao, Pageable pageable) {
+    @Cacheable(value = CacheNames.CUSTOMERS, key = "@cacheKeys.page('customers', 'filters', #pageable, #nome, #dataCriacao)", sync = true)
+    public Slice<CustomerResponse> findWithFilters(String nome, LocalDateTime dataCriacao, Pageable pageable) {
         log.debug("Finding customers with filters - name: {}, created: {}", nome, dataCriacao);
-        return customerRepository.findWithFilters(nome, dataCriacao, pageable)
-                .map(customerMapper::toResponse);
+        // Consulta com os mesmos valores normalizados usados na chave do cache
+        return customerRepository.findResponsesWithFilters(CacheKeys.normalize(nome), dataCriacao, pageable);
+    }
+    
+    // Em cache até a próxima escrita, que troca a versão usada na chave
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.CUSTOMERS, key = "@cacheKeys.count('customers', 'filters', #nome, #dataCriacao)", sync = true)
+    public long countWithFilters(String nome, LocalDateTime dataCriacao) {
+        log.debug("Counting customers with filters - name: {}, created: {}", nome, dataCriacao);
+        return customerRepository.countWithFilters(CacheKeys.normalize(nome), dataCriacao);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countWithFiltersUpTo(String nome, LocalDateTime dataCriacao, int limit) {
+        return customerRepository.findIdsWithFilters(CacheKeys.normalize(nome), dataCriacao, PageRequest.of(0, limit)).size();
+    }
+    
+    // Sem cache: cada cursor é uma chave diferente, e o seek já é barato em qualquer posição
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CustomerResponse> findWithFiltersAfter(String nome, LocalDateTime dataCriacao,
+                                                                     String sort, String after, int size) {
+        String field = CURSOR_SORT.resolve(sort);
+        CURSOR_SORT.validateSize(size);
+        log.debug("Finding customers after cursor - sort: {}, size: {}", field, size);
+        
+        Specification<Customer> specification = CustomerSpecifications.withFilters(CacheKeys.normalize(nome), dataCriacao)
+                .and(CURSOR_SORT.after(field, after));
+        List<CustomerResponse> rows = customerRepository.findResponses(specification, size + 1);
+        return CURSOR_SORT.response(rows, field, size, Function.identity());
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<CustomerResponse> findAll() {
-        log.debug("Finding all customers without pagination");
-        return customerRepository.findAllByDeletedAtIsNull().stream()
-                .map(customerMapper::toResponse)
-                .collect(Collectors.toList());
+    public void streamAll(Consumer<? super CustomerResponse> action) {
+        log.debug("Streaming all customers");
+        // Entrega linha a linha, sem montar a lista inteira em memória
+        try (Stream<CustomerResponse> customers = customerRepository.streamAllResponses()) {
+            customers.forEach(action);
+        }
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.CUSTOMERS, key = "#id")
+    @Cacheable(value = CacheNames.CUSTOMERS, key = "#id", sync = true)
     public CustomerResponse findById(UUID id) {
         log.debug("Finding customer by id: {}", id);
-        Customer customer = findCustomerByIdOrThrow(id);
-        return customerMapper.toResponse(customer);
+        return customerRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer", "id", id));
     }
     
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.CUSTOMERS, allEntries = true)
     public CustomerResponse create(CustomerRequest request) {
         log.info("Creating new customer with CPF: {}", request.getCpf());
         
@@ -81,12 +138,86 @@ public class CustomerServiceImpl implements ICustomerService {
         customer = customerRepository.save(customer);
         
         log.info("Customer created successfully with id: {}", customer.getId());
+        
+        cacheInvalidator.invalidatePages(CacheNames.CUSTOMERS);
         return customerMapper.toResponse(customer);
     }
     
+    /**
+     * Cria os clientes válidos do lote em uma única transação. CPFs e emails
+     * são conferidos com uma só consulta para o lote inteiro, e os inserts
+     * saem em lotes JDBC (hibernate.jdbc.batch_size). Itens inválidos são
+     * reportados sem impedir os demais.
+     */
+    @Override
+    @Transactional
+    public BatchResponse<CustomerResponse> createBatch(List<CustomerRequest> requests) {
+        batchRequestValidator.validateSize(requests);
+        log.info("Creating batch of {} customers", requests.size());
+        
+        List<List<String>> errors = batchRequestValidator.validateItems(requests);
+        Set<String> cpfs = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                cpfs.add(requests.get(i).getCpf());
+                emails.add(requests.get(i).getEmail());
+            }
+        }
+        Set<String> existingCpfs = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        if (!cpfs.isEmpty()) {
+            customerRepository.findExistingCpfsAndEmails(cpfs, emails).forEach(existing -> {
+                existingCpfs.add(existing.getCpf());
+                existingEmails.add(normalizeEmail(existing.getEmail()));
+            });
+        }
+        
+        Set<String> batchCpfs = new HashSet<>();
+        Set<String> batchEmails = new HashSet<>();
+        Map<Integer, Customer> customers = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> itemErrors = errors.get(i);
+            if (!itemErrors.isEmpty()) {
+                continue;
+            }
+            CustomerRequest request = requests.get(i);
+            if (existingCpfs.contains(request.getCpf())) {
+                itemErrors.add(String.format(ErrorMessages.CUSTOMER_CPF_ALREADY_EXISTS, request.getCpf()));
+            } else if (!batchCpfs.add(request.getCpf())) {
+                itemErrors.add(String.format(ErrorMessages.BATCH_DUPLICATE_ITEM, "cpf", request.getCpf()));
+            }
+            String email = normalizeEmail(request.getEmail());
+            if (existingEmails.contains(email)) {
+                itemErrors.add(String.format(ErrorMessages.CUSTOMER_EMAIL_ALREADY_EXISTS, request.getEmail()));
+            } else if (!batchEmails.add(email)) {
+                itemErrors.add(String.format(ErrorMessages.BATCH_DUPLICATE_ITEM, "email", request.getEmail()));
+            }
+            if (itemErrors.isEmpty()) {
+                customers.put(i, customerMapper.toEntity(request));
+            }
+        }
+        
+        if (!customers.isEmpty()) {
+            customerRepository.saveAll(customers.values());
+            // Executa os inserts aqui, para os timestamps gerados entrarem na resposta
+            customerRepository.flush();
+            cacheInvalidator.invalidatePages(CacheNames.CUSTOMERS);
+        }
+        log.info("Customer batch finished: {} created, {} failed", customers.size(), requests.size() - customers.size());
+        
+        List<BatchItemResult<CustomerResponse>> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Customer customer = customers.get(i);
+            results.add(customer != null
+                    ? BatchItemResult.created(i, customerMapper.toResponse(customer))
+                    : BatchItemResult.failed(i, errors.get(i)));
+        }
+        return BatchResponse.of(results);
+    }
+    
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.CUSTOMERS, allEntries = true)
     public CustomerResponse partialUpdate(UUID id, CustomerPatchRequest request) {
         log.info("Partially updating customer with id: {}", id);
         
@@ -99,12 +230,13 @@ public class CustomerServiceImpl implements ICustomerService {
         customer = customerRepository.save(customer);
         log.info("Customer updated successfully with id: {}", id);
         
+        evictCustomerCaches(id);
+        
         return customerMapper.toResponse(customer);
     }
     
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.CUSTOMERS, allEntries = true)
     public void delete(UUID id) {
         log.info("Deleting customer with id: {}", id);
         
@@ -112,10 +244,23 @@ public class CustomerServiceImpl implements ICustomerService {
         customerRepository.delete(customer);
         
         log.info("Customer soft deleted successfully with id: {}", id);
+        
+        evictCustomerCaches(id);
     }
     
     // Métodos auxiliares privados
     
+    private void evictCustomerCaches(UUID id) {
+        cacheInvalidator.evict(CacheNames.CUSTOMERS, id);
+        cacheInvalidator.invalidatePages(CacheNames.CUSTOMERS);
+        cacheInvalidator.invalidateDependents(CacheNames.CUSTOMERS, id);
+    }
+    
+    // A comparação de email no banco ignora caixa
+    private String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+    
     private Customer findCustomerByIdOrThrow(UUID id) {
         return customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "id", id));
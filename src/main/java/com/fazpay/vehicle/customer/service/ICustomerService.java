@@ -1,27 +1,40 @@
 package com.fazpay.vehicle.customer.service;
 
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.customer.dto.CustomerPatchRequest;
 import com.fazpay.vehicle.customer.dto.CustomerRequest;
 import com.fazpay.vehicle.customer.dto.CustomerResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ICustomerService {
     
     Page<CustomerResponse> findAll(Pageable pageable);
     
-    Page<CustomerResponse> findWithFilters(String nome, LocalDateTime dataCriacao, Pageable pageable);
+    Slice<CustomerResponse> findWithFilters(String nome, LocalDateTime dataCriacao, Pageable pageable);
     
-    List<CustomerResponse> findAll();
+    long countWithFilters(String nome, LocalDateTime dataCriacao);
+    
+    long countWithFiltersUpTo(String nome, LocalDateTime dataCriacao, int limit);
+    
+    CursorPageResponse<CustomerResponse> findWithFiltersAfter(String nome, LocalDateTime dataCriacao,
+                                                              String sort, String after, int size);
+    
+    void streamAll(Consumer<? super CustomerResponse> action);
     
     CustomerResponse findById(UUID id);
     
     CustomerResponse create(CustomerRequest request);
     
+    BatchResponse<CustomerResponse> createBatch(List<CustomerRequest> requests);
+    
     CustomerResponse partialUpdate(UUID id, CustomerPatchRequest request);
     
     void delete(UUID id);
@@ -0,0 +1,6 @@
+package com.fazpay.vehicle.user.model;
+
+public enum Role {
+    USER,
+    ADMIN
+}
@@ -1,5 +1,6 @@
 package com.fazpay.vehicle.user.model;
 
+import com.fazpay.vehicle.core.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -21,9 +22,9 @@ import java.util.UUID;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", updatable = false, nullable = false, length = 36)
+    @GeneratedUuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
     private UUID id;
     
     @NotBlank(message = "Username is required")
@@ -38,5 +39,11 @@ public class User {
     @NotBlank(message = "Password is required")
     @Column(nullable = false)
     private String password;
+    
+    // ADMIN só por UPDATE no banco (sql/migrations/user-role.sql); não há endpoint que conceda o papel
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Role role = Role.USER;
 }
 
@@ -1,6 +1,14 @@
 package com.fazpay.vehicle.vehicle.controller;
 
+import com.fazpay.vehicle.core.cache.response.CachedResponseBody;
+import com.fazpay.vehicle.core.cache.response.EncodedResponseCache;
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.core.dto.PageResponse;
+import com.fazpay.vehicle.core.pagination.CountMode;
+import com.fazpay.vehicle.core.pagination.PageCount;
+import com.fazpay.vehicle.core.pagination.PageCounter;
+import com.fazpay.vehicle.core.streaming.JsonStreamWriter;
 import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
 import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
 import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
@@ -11,12 +19,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,13 +40,18 @@ import java.util.UUID;
 public class VehicleController {
     
     private final IVehicleService vehicleService;
+    private final EncodedResponseCache encodedResponseCache;
+    private final PageCounter pageCounter;
+    private final JsonStreamWriter jsonStreamWriter;
     
     @GetMapping
+    @CachedResponseBody
     @Operation(
         summary = "List vehicles with pagination and filters",
         description = "Returns a paginated list of vehicles. " +
                       "Optional filters: marca, modelo, cor. " +
-                      "Optional sort: field name (default: placa). Example: ?page=0&size=10&sort=marca"
+                      "Optional sort: field name (default: placa). Example: ?page=0&size=10&sort=marca. " +
+                      "Optional count: cached (default), approximate or none. Example: ?page=0&size=10&count=none"
     )
     public ResponseEntity<PageResponse<VehicleResponse>> findAll(
             @Parameter(description = "Filter by vehicle brand (partial match)")
@@ -54,38 +70,68 @@ public class VehicleController {
             @RequestParam(defaultValue = "10") int size,
             
             @Parameter(description = "Sort field (optional). Available: placa, marca, modelo, ano, cor, createdAt")
-            @RequestParam(required = false) String sort) {
+            @RequestParam(required = false) String sort,
+            
+            @Parameter(description = "Total count: cached (default, exact), approximate (exact up to a limit) or none (hasNext only)")
+            @RequestParam(required = false) String count) {
         
         log.debug("GET /api/v1/veiculos - page: {}, size: {}", page, size);
         
+        CountMode countMode = CountMode.from(count);
         PageRequest pageable = sort != null 
             ? PageRequest.of(page, size, Sort.by(sort))
             : PageRequest.of(page, size, Sort.by("placa"));
         
-        Page<VehicleResponse> pageResult = vehicleService.findWithFilters(marca, modelo, cor, pageable);
+        Slice<VehicleResponse> pageResult = vehicleService.findWithFilters(marca, modelo, cor, pageable);
+        PageCount total = pageCounter.count(countMode, pageResult,
+                () -> vehicleService.countWithFilters(marca, modelo, cor),
+                limit -> vehicleService.countWithFiltersUpTo(marca, modelo, cor, limit));
         
-        PageResponse<VehicleResponse> response = new PageResponse<>(
-            pageResult.getContent(),
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.getTotalPages(),
-            pageResult.isFirst(),
-            pageResult.isLast()
-        );
+        PageResponse<VehicleResponse> response = encodedResponseCache.pageResponse(pageResult, total);
         
         return ResponseEntity.ok(response);
     }
     
-    @GetMapping("/all")
-    @Operation(summary = "List all vehicles without pagination")
-    public ResponseEntity<List<VehicleResponse>> findAllWithoutPagination() {
+    @GetMapping(params = "after")
+    @Operation(
+        summary = "List vehicles with cursor pagination and filters",
+        description = "Keyset pagination: start with ?after= and pass the returned nextCursor as after to get the next page. " +
+                      "Every page costs the same as the first one. Optional filters: marca, modelo, cor. " +
+                      "Sort (default: placa) must be an indexed field: placa, createdAt"
+    )
+    public ResponseEntity<CursorPageResponse<VehicleResponse>> findAllAfter(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page (empty for the first page)")
+            @RequestParam String after,
+            
+            @Parameter(description = "Filter by vehicle brand (partial match)")
+            @RequestParam(required = false) String marca,
+            
+            @Parameter(description = "Filter by vehicle model (partial match)")
+            @RequestParam(required = false) String modelo,
+            
+            @Parameter(description = "Filter by vehicle color (partial match)")
+            @RequestParam(required = false) String cor,
+            
+            @Parameter(description = "Page size (default: 10, max: 100)")
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Sort field (optional). Available: placa, createdAt")
+            @RequestParam(required = false) String sort) {
+        
+        log.debug("GET /api/v1/veiculos?after - size: {}", size);
+        return ResponseEntity.ok(vehicleService.findWithFiltersAfter(marca, modelo, cor, sort, after, size));
+    }
+    
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "List all vehicles without pagination",
+               description = "Streamed from a database cursor; send Accept: application/x-ndjson for one JSON object per line")
+    public ResponseEntity<StreamingResponseBody> findAllWithoutPagination(@RequestHeader HttpHeaders headers) {
         log.debug("GET /api/v1/veiculos/all");
-        List<VehicleResponse> vehicles = vehicleService.findAll();
-        return ResponseEntity.ok(vehicles);
+        return jsonStreamWriter.stream(headers, vehicleService::streamAll);
     }
     
     @GetMapping("/{id}")
+    @CachedResponseBody
     @Operation(summary = "Get vehicle by ID")
     public ResponseEntity<VehicleResponse> findById(@PathVariable UUID id) {
         log.debug("GET /api/v1/veiculos/{}", id);
@@ -94,6 +140,7 @@ public class VehicleController {
     }
     
     @GetMapping("/placa/{placa}")
+    @CachedResponseBody
     @Operation(summary = "Get vehicle by license plate")
     public ResponseEntity<VehicleResponse> findByPlaca(@PathVariable String placa) {
         log.debug("GET /api/v1/veiculos/placa/{}", placa);
@@ -109,6 +156,16 @@ public class VehicleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(vehicle);
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Create vehicles in batch",
+               description = "Creates up to app.batch.max-size vehicles in one request and reports the result of each item. " +
+                             "Returns 201 when every item was created and 207 when some failed.")
+    public ResponseEntity<BatchResponse<VehicleResponse>> createBatch(@RequestBody List<VehicleRequest> requests) {
+        log.info("POST /api/v1/veiculos/batch - {} items", requests.size());
+        BatchResponse<VehicleResponse> response = vehicleService.createBatch(requests);
+        return ResponseEntity.status(response.isAllCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(response);
+    }
+    
     @PatchMapping("/{id}")
     @Operation(summary = "Update vehicle (partial update)",
                description = "Update one or more vehicle fields. All fields are optional.")
@@ -1,5 +1,6 @@
 package com.fazpay.vehicle.vehicle.model;
 
+import com.fazpay.vehicle.core.persistence.GeneratedUuidV7;
 import com.fazpay.vehicle.core.validation.ValidPlaca;
 import com.fazpay.vehicle.customer.model.Customer;
 import jakarta.persistence.*;
@@ -29,9 +30,9 @@ import java.util.UUID;
 public class Vehicle {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", updatable = false, nullable = false, length = 36)
+    @GeneratedUuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, length = 16)
     private UUID id;
     
     @NotBlank(message = "Placa é obrigatória")
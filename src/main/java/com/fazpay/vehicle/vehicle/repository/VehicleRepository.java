@@ -1,21 +1,24 @@
 package com.fazpay.vehicle.vehicle.repository;
 
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
 import com.fazpay.vehicle.vehicle.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, UUID>, JpaSpecificationExecutor<Vehicle> {
+public interface VehicleRepository extends JpaRepository<Vehicle, UUID>, JpaSpecificationExecutor<Vehicle>,
+        VehicleResponseRepository {
     
     Optional<Vehicle> findByPlaca(String placa);
     
@@ -23,20 +26,37 @@ public interface VehicleRepository extends JpaRepository<Vehicle, UUID>, JpaSpec
     
     boolean existsByPlaca(String placa);
     
-    // Busca com join fetch para evitar N+1 queries
-    @EntityGraph(attributePaths = {"customer"})
-    @Query("SELECT v FROM Vehicle v WHERE v.deletedAt IS NULL")
-    Page<Vehicle> findAllWithCustomer(Pageable pageable);
+    // Nativa para incluir veículos removidos, que a constraint UNIQUE também considera
+    @Query(value = "SELECT placa FROM veiculos WHERE placa IN (:placas)", nativeQuery = true)
+    List<String> findExistingPlacas(@Param("placas") Collection<String> placas);
     
-    @Query("SELECT v FROM Vehicle v LEFT JOIN FETCH v.customer WHERE " +
-           "(:marca IS NULL OR LOWER(v.marca) LIKE LOWER(CONCAT('%', :marca, '%'))) AND " +
-           "(:modelo IS NULL OR LOWER(v.modelo) LIKE LOWER(CONCAT('%', :modelo, '%'))) AND " +
-           "(:cor IS NULL OR LOWER(v.cor) LIKE LOWER(CONCAT('%', :cor, '%')))")
-    Page<Vehicle> findWithFilters(@Param("marca") String marca,
+    // Paginadas com @Query, para o Spring Data aplicar a ordenação pedida
+    @Query(value = RESPONSE + " WHERE v.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.deletedAt IS NULL")
+    Page<VehicleResponse> findAllResponses(Pageable pageable);
+    
+    String FILTERS = "(:marca IS NULL OR LOWER(v.marca) LIKE LOWER(CONCAT('%', :marca, '%'))) AND " +
+                     "(:modelo IS NULL OR LOWER(v.modelo) LIKE LOWER(CONCAT('%', :modelo, '%'))) AND " +
+                     "(:cor IS NULL OR LOWER(v.cor) LIKE LOWER(CONCAT('%', :cor, '%')))";
+    
+    // Slice: sem o COUNT derivado, que custaria tanto quanto a própria página
+    @Query(RESPONSE + " WHERE " + FILTERS)
+    Slice<VehicleResponse> findResponsesWithFilters(@Param("marca") String marca,
+                                                    @Param("modelo") String modelo,
+                                                    @Param("cor") String cor,
+                                                    Pageable pageable);
+    
+    // Contagem separada, sem o join com clientes
+    @Query("SELECT COUNT(v) FROM Vehicle v WHERE " + FILTERS)
+    long countWithFilters(@Param("marca") String marca,
+                          @Param("modelo") String modelo,
+                          @Param("cor") String cor);
+    
+    // Só os ids e com limite, para contar no máximo pageable.getPageSize() linhas
+    @Query("SELECT v.id FROM Vehicle v WHERE " + FILTERS)
+    List<UUID> findIdsWithFilters(@Param("marca") String marca,
                                   @Param("modelo") String modelo,
                                   @Param("cor") String cor,
                                   Pageable pageable);
-    
-    List<Vehicle> findAllByDeletedAtIsNull();
 }
 
@@ -0,0 +1,32 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Leituras direto em VehicleResponse, com o nome do cliente no mesmo SELECT e sem
+ * entidades no contexto de persistência. O id do cliente vem da FK de veiculos,
+ * sem depender do join.
+ */
+public interface VehicleResponseRepository {
+    
+    String RESPONSE = "SELECT new com.fazpay.vehicle.vehicle.dto.VehicleResponse(" +
+                      "v.id, v.placa, v.marca, v.modelo, v.ano, v.cor, v.customer.id, c.nome, v.createdAt, v.updatedAt) " +
+                      "FROM Vehicle v LEFT JOIN v.customer c";
+    
+    Optional<VehicleResponse> findResponseById(UUID id);
+    
+    Optional<VehicleResponse> findResponseByPlaca(String placa);
+    
+    // Cursor só de avanço; deve ser consumido e fechado dentro da transação
+    Stream<VehicleResponse> streamAllResponses();
+    
+    // Para consultas montadas com Specification (cursor), que também define a ordenação
+    List<VehicleResponse> findResponses(Specification<Vehicle> specification, int limit);
+}
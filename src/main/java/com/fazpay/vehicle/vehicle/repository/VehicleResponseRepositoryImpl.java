@@ -0,0 +1,76 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Fora de @Query: o Spring Data 3.2.0 reinterpreta a JPQL a cada chamada, e aqui a
+// tradução fica no cache de planos do Hibernate
+class VehicleResponseRepositoryImpl implements VehicleResponseRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.streaming.fetch-size:500}")
+    private int fetchSize;
+    
+    @Override
+    public Optional<VehicleResponse> findResponseById(UUID id) {
+        return entityManager.createQuery(RESPONSE + " WHERE v.id = :id", VehicleResponse.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+    
+    @Override
+    public Optional<VehicleResponse> findResponseByPlaca(String placa) {
+        return entityManager.createQuery(RESPONSE + " WHERE v.placa = :placa", VehicleResponse.class)
+                .setParameter("placa", placa)
+                .getResultStream()
+                .findFirst();
+    }
+    
+    @Override
+    public Stream<VehicleResponse> streamAllResponses() {
+        return entityManager.createQuery(RESPONSE + " WHERE v.deletedAt IS NULL", VehicleResponse.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+    
+    // Mesmas colunas de RESPONSE, em Criteria para aceitar a Specification
+    @Override
+    public List<VehicleResponse> findResponses(Specification<Vehicle> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VehicleResponse> query = cb.createQuery(VehicleResponse.class);
+        Root<Vehicle> root = query.from(Vehicle.class);
+        Join<Vehicle, Customer> customer = root.join("customer", JoinType.LEFT);
+        query.select(cb.construct(VehicleResponse.class,
+                root.get("id"), root.get("placa"), root.get("marca"), root.get("modelo"), root.get("ano"),
+                root.get("cor"), root.get("customer").get("id"), customer.get("nome"),
+                root.get("createdAt"), root.get("updatedAt")));
+        
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import org.springframework.data.jpa.domain.Specification;
+
+// Mesmos filtros de VehicleRepository.findResponsesWithFilters, para consultas com cursor
+public final class VehicleSpecifications {
+    
+    private VehicleSpecifications() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+    
+    // Os filtros já devem vir normalizados (CacheKeys.normalize)
+    public static Specification<Vehicle> withFilters(String marca, String modelo, String cor) {
+        return Specification.where(contains("marca", marca))
+                .and(contains("modelo", modelo))
+                .and(contains("cor", cor));
+    }
+    
+    private static Specification<Vehicle> contains(String attribute, String value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), "%" + value + "%");
+    }
+}
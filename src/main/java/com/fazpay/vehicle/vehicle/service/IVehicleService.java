@@ -1,21 +1,32 @@
 package com.fazpay.vehicle.vehicle.service;
 
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
 import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
 import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IVehicleService {
     
     Page<VehicleResponse> findAll(Pageable pageable);
     
-    Page<VehicleResponse> findWithFilters(String marca, String modelo, String cor, Pageable pageable);
+    Slice<VehicleResponse> findWithFilters(String marca, String modelo, String cor, Pageable pageable);
     
-    List<VehicleResponse> findAll();
+    long countWithFilters(String marca, String modelo, String cor);
+    
+    long countWithFiltersUpTo(String marca, String modelo, String cor, int limit);
+    
+    CursorPageResponse<VehicleResponse> findWithFiltersAfter(String marca, String modelo, String cor,
+                                                             String sort, String after, int size);
+    
+    void streamAll(Consumer<? super VehicleResponse> action);
     
     VehicleResponse findById(UUID id);
     
@@ -23,6 +34,8 @@ public interface IVehicleService {
     
     VehicleResponse create(VehicleRequest request);
     
+    BatchResponse<VehicleResponse> createBatch(List<VehicleRequest> requests);
+    
     VehicleResponse partialUpdate(UUID id, VehiclePatchRequest request);
     
     void delete(UUID id);
@@ -0,0 +1,37 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.cache.CacheWarmer;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// Chaves por id e por placa; páginas dependem da versão do processo e não são recarregadas
+@Component
+@RequiredArgsConstructor
+public class VehicleCacheWarmer implements CacheWarmer {
+    
+    private static final String PLACA_PREFIX = "placa_";
+    
+    private final IVehicleService vehicleService;
+    
+    @Override
+    public String cacheName() {
+        return CacheNames.VEHICLES;
+    }
+    
+    @Override
+    public boolean supports(Object key) {
+        return key instanceof UUID || (key instanceof String value && value.startsWith(PLACA_PREFIX));
+    }
+    
+    @Override
+    public void warm(Object key) {
+        if (key instanceof UUID id) {
+            vehicleService.findById(id);
+        } else {
+            vehicleService.findByPlaca(((String) key).substring(PLACA_PREFIX.length()));
+        }
+    }
+}
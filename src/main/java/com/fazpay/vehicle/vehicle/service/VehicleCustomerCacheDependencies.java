@@ -0,0 +1,49 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.cache.CacheDependencies;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// VehicleResponse copia clienteNome, então entradas de veículos dependem do cliente
+@Component
+public class VehicleCustomerCacheDependencies implements CacheDependencies {
+    
+    @Override
+    public String cacheName() {
+        return CacheNames.VEHICLES;
+    }
+    
+    @Override
+    public String sourceCacheName() {
+        return CacheNames.CUSTOMERS;
+    }
+    
+    @Override
+    public Collection<?> sourceKeys(Object value) {
+        if (value instanceof VehicleResponse vehicle) {
+            return vehicle.getClienteId() != null ? Set.of(vehicle.getClienteId()) : Set.of();
+        }
+        if (value instanceof Slice<?> slice) {
+            return customerIds(slice.getContent());
+        }
+        if (value instanceof Collection<?> vehicles) {
+            return customerIds(vehicles);
+        }
+        return Set.of();
+    }
+    
+    private Set<Object> customerIds(Collection<?> values) {
+        return values.stream()
+                .filter(VehicleResponse.class::isInstance)
+                .map(value -> ((VehicleResponse) value).getClienteId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
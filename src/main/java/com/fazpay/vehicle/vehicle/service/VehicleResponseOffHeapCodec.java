@@ -0,0 +1,77 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.cache.BinaryFields;
+import com.fazpay.vehicle.core.cache.OffHeapCodec;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Páginas não vão para o off-heap; só veículos individuais (chaves por id e por placa)
+@Component
+public class VehicleResponseOffHeapCodec implements OffHeapCodec {
+    
+    private static final byte VERSION = 1;
+    
+    @Override
+    public String cacheName() {
+        return CacheNames.VEHICLES;
+    }
+    
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof VehicleResponse;
+    }
+    
+    @Override
+    public byte[] encode(Object value) {
+        VehicleResponse vehicle = (VehicleResponse) value;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            BinaryFields.writeUuid(out, vehicle.getId());
+            BinaryFields.writeString(out, vehicle.getPlaca());
+            BinaryFields.writeString(out, vehicle.getMarca());
+            BinaryFields.writeString(out, vehicle.getModelo());
+            BinaryFields.writeInteger(out, vehicle.getAno());
+            BinaryFields.writeString(out, vehicle.getCor());
+            BinaryFields.writeUuid(out, vehicle.getClienteId());
+            BinaryFields.writeString(out, vehicle.getClienteNome());
+            BinaryFields.writeDateTime(out, vehicle.getCreatedAt());
+            BinaryFields.writeDateTime(out, vehicle.getUpdatedAt());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+    
+    @Override
+    public Object decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported vehicle off-heap format: " + version);
+            }
+            return VehicleResponse.builder()
+                    .id(BinaryFields.readUuid(in))
+                    .placa(BinaryFields.readString(in))
+                    .marca(BinaryFields.readString(in))
+                    .modelo(BinaryFields.readString(in))
+                    .ano(BinaryFields.readInteger(in))
+                    .cor(BinaryFields.readString(in))
+                    .clienteId(BinaryFields.readUuid(in))
+                    .clienteNome(BinaryFields.readString(in))
+                    .createdAt(BinaryFields.readDateTime(in))
+                    .updatedAt(BinaryFields.readDateTime(in))
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
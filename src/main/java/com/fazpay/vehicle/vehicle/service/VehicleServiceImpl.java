@@ -1,9 +1,17 @@
 package com.fazpay.vehicle.vehicle.service;
 
+import com.fazpay.vehicle.core.cache.CacheInvalidator;
+import com.fazpay.vehicle.core.cache.CacheKeys;
+import com.fazpay.vehicle.core.cache.NegativeLookupCache;
 import com.fazpay.vehicle.core.constants.CacheNames;
 import com.fazpay.vehicle.core.constants.ErrorMessages;
+import com.fazpay.vehicle.core.dto.BatchItemResult;
+import com.fazpay.vehicle.core.dto.BatchResponse;
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
 import com.fazpay.vehicle.core.exception.BusinessException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.fazpay.vehicle.core.pagination.KeysetSort;
+import com.fazpay.vehicle.core.validation.BatchRequestValidator;
 import com.fazpay.vehicle.customer.model.Customer;
 import com.fazpay.vehicle.customer.repository.CustomerRepository;
 import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
@@ -12,77 +20,142 @@ import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
 import com.fazpay.vehicle.vehicle.mapper.VehicleMapper;
 import com.fazpay.vehicle.vehicle.model.Vehicle;
 import com.fazpay.vehicle.vehicle.repository.VehicleRepository;
+import com.fazpay.vehicle.vehicle.repository.VehicleSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class VehicleServiceImpl implements IVehicleService {
     
+    // Ordenações com índice em veiculos (ver sql/ddl.sql)
+    private static final KeysetSort CURSOR_SORT = KeysetSort.of("placa", Map.of(
+            "placa", value -> value,
+            "createdAt", LocalDateTime::parse));
+    
     private final VehicleRepository vehicleRepository;
     private final CustomerRepository customerRepository;
     private final VehicleMapper vehicleMapper;
+    private final CacheInvalidator cacheInvalidator;
+    private final NegativeLookupCache negativeLookupCache;
+    private final BatchRequestValidator batchRequestValidator;
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VEHICLES, key = "'all_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = CacheNames.VEHICLES, key = "@cacheKeys.page('vehicles', 'all', #pageable)", sync = true)
     public Page<VehicleResponse> findAll(Pageable pageable) {
         log.debug("Finding all vehicles with pagination - page: {}, size: {}", 
                   pageable.getPageNumber(), pageable.getPageSize());
-        return vehicleRepository.findAllWithCustomer(pageable)
-                .map(vehicleMapper::toResponse);
+        return vehicleRepository.findAllResponses(pageable);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<VehicleResponse> findWithFilters(String marca, String modelo, String cor, Pageable pageable) {
+    @Cacheable(value = CacheNames.VEHICLES, key = "@cacheKeys.page('vehicles', 'filters', #pageable, #marca, #modelo, #cor)", sync = true)
+    public Slice<VehicleResponse> findWithFilters(String marca, String modelo, String cor, Pageable pageable) {
         log.debug("Finding vehicles with filters - brand: {}, model: {}, color: {}", marca, modelo, cor);
-        return vehicleRepository.findWithFilters(marca, modelo, cor, pageable)
-                .map(vehicleMapper::toResponse);
+        // Consulta com os mesmos valores normalizados usados na chave do cache
+        return vehicleRepository.findResponsesWithFilters(
+                CacheKeys.normalize(marca), CacheKeys.normalize(modelo), CacheKeys.normalize(cor), pageable);
+    }
+    
+    // Em cache até a próxima escrita, que troca a versão usada na chave
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.VEHICLES, key = "@cacheKeys.count('vehicles', 'filters', #marca, #modelo, #cor)", sync = true)
+    public long countWithFilters(String marca, String modelo, String cor) {
+        log.debug("Counting vehicles with filters - brand: {}, model: {}, color: {}", marca, modelo, cor);
+        return vehicleRepository.countWithFilters(
+                CacheKeys.normalize(marca), CacheKeys.normalize(modelo), CacheKeys.normalize(cor));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<VehicleResponse> findAll() {
-        log.debug("Finding all vehicles without pagination");
-        return vehicleRepository.findAllByDeletedAtIsNull().stream()
-                .map(vehicleMapper::toResponse)
-                .collect(Collectors.toList());
+    public long countWithFiltersUpTo(String marca, String modelo, String cor, int limit) {
+        return vehicleRepository.findIdsWithFilters(
+                CacheKeys.normalize(marca), CacheKeys.normalize(modelo), CacheKeys.normalize(cor), PageRequest.of(0, limit)).size();
+    }
+    
+    // Sem cache: cada cursor é uma chave diferente, e o seek já é barato em qualquer posição
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<VehicleResponse> findWithFiltersAfter(String marca, String modelo, String cor,
+                                                                    String sort, String after, int size) {
+        String field = CURSOR_SORT.resolve(sort);
+        CURSOR_SORT.validateSize(size);
+        log.debug("Finding vehicles after cursor - sort: {}, size: {}", field, size);
+        
+        Specification<Vehicle> specification = VehicleSpecifications.withFilters(
+                        CacheKeys.normalize(marca), CacheKeys.normalize(modelo), CacheKeys.normalize(cor))
+                .and(CURSOR_SORT.after(field, after));
+        List<VehicleResponse> rows = vehicleRepository.findResponses(specification, size + 1);
+        return CURSOR_SORT.response(rows, field, size, Function.identity());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<? super VehicleResponse> action) {
+        log.debug("Streaming all vehicles");
+        // Entrega linha a linha, sem montar a lista inteira em memória
+        try (Stream<VehicleResponse> vehicles = vehicleRepository.streamAllResponses()) {
+            vehicles.forEach(action);
+        }
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VEHICLES, key = "#id")
+    @Cacheable(value = CacheNames.VEHICLES, key = "#id", sync = true)
     public VehicleResponse findById(UUID id) {
         log.debug("Finding vehicle by id: {}", id);
-        Vehicle vehicle = findVehicleByIdOrThrow(id);
-        return vehicleMapper.toResponse(vehicle);
+        if (negativeLookupCache.isKnownMissing(CacheNames.VEHICLE_MISSES, id)) {
+            throw new ResourceNotFoundException("Vehicle", "id", id);
+        }
+        return vehicleRepository.findResponseById(id).orElseThrow(() -> {
+            negativeLookupCache.recordMissing(CacheNames.VEHICLE_MISSES, id);
+            return new ResourceNotFoundException("Vehicle", "id", id);
+        });
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VEHICLES, key = "'placa_' + #placa")
+    @Cacheable(value = CacheNames.VEHICLES, key = "'placa_' + #placa.toUpperCase(T(java.util.Locale).ROOT)", sync = true)
     public VehicleResponse findByPlaca(String placa) {
         log.debug("Finding vehicle by license plate: {}", placa);
-        Vehicle vehicle = vehicleRepository.findByPlaca(placa)
-                .orElseThrow(() -> new ResourceNotFoundException("Vehicle", "placa", placa));
-        return vehicleMapper.toResponse(vehicle);
+        String missKey = placaKey(placa);
+        if (negativeLookupCache.isKnownMissing(CacheNames.VEHICLE_MISSES, missKey)) {
+            throw new ResourceNotFoundException("Vehicle", "placa", placa);
+        }
+        return vehicleRepository.findResponseByPlaca(placa).orElseThrow(() -> {
+            negativeLookupCache.recordMissing(CacheNames.VEHICLE_MISSES, missKey);
+            return new ResourceNotFoundException("Vehicle", "placa", placa);
+        });
     }
     
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.VEHICLES, allEntries = true)
     public VehicleResponse create(VehicleRequest request) {
         log.info("Creating new vehicle with plate: {}", request.getPlaca());
         
@@ -96,30 +169,93 @@ public class VehicleServiceImpl implements IVehicleService {
         vehicle = vehicleRepository.save(vehicle);
         log.info("Vehicle created successfully with id: {}", vehicle.getId());
         
+        evictVehicleCaches(vehicle.getId(), vehicle.getPlaca());
+        
         return vehicleMapper.toResponse(vehicle);
     }
     
+    /**
+     * Cria os veículos válidos do lote em uma única transação. Placas e
+     * clientes são conferidos com uma consulta cada para o lote inteiro, e os
+     * inserts saem em lotes JDBC (hibernate.jdbc.batch_size). Itens inválidos
+     * são reportados sem impedir os demais.
+     */
+    @Override
+    @Transactional
+    public BatchResponse<VehicleResponse> createBatch(List<VehicleRequest> requests) {
+        batchRequestValidator.validateSize(requests);
+        log.info("Creating batch of {} vehicles", requests.size());
+        
+        List<List<String>> errors = batchRequestValidator.validateItems(requests);
+        Set<String> existingPlacas = findExistingPlacas(requests, errors);
+        Map<UUID, Customer> customers = findCustomers(requests, errors);
+        
+        Set<String> batchPlacas = new HashSet<>();
+        Map<Integer, Vehicle> vehicles = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> itemErrors = errors.get(i);
+            if (!itemErrors.isEmpty()) {
+                continue;
+            }
+            VehicleRequest request = requests.get(i);
+            String placa = normalizePlaca(request.getPlaca());
+            if (existingPlacas.contains(placa)) {
+                itemErrors.add(String.format(ErrorMessages.VEHICLE_PLACA_ALREADY_EXISTS, request.getPlaca()));
+            } else if (!batchPlacas.add(placa)) {
+                itemErrors.add(String.format(ErrorMessages.BATCH_DUPLICATE_ITEM, "placa", request.getPlaca()));
+            }
+            Customer customer = customers.get(request.getClienteId());
+            if (customer == null) {
+                itemErrors.add(String.format(ErrorMessages.CUSTOMER_NOT_FOUND, "id", request.getClienteId()));
+            }
+            if (itemErrors.isEmpty()) {
+                Vehicle vehicle = vehicleMapper.toEntity(request);
+                vehicle.setCustomer(customer);
+                vehicles.put(i, vehicle);
+            }
+        }
+        
+        if (!vehicles.isEmpty()) {
+            vehicleRepository.saveAll(vehicles.values());
+            // Executa os inserts aqui, para os timestamps gerados entrarem na resposta
+            vehicleRepository.flush();
+            vehicles.values().forEach(vehicle -> evictVehiclePlacaCaches(vehicle.getPlaca()));
+            cacheInvalidator.invalidatePages(CacheNames.VEHICLES);
+        }
+        log.info("Vehicle batch finished: {} created, {} failed", vehicles.size(), requests.size() - vehicles.size());
+        
+        List<BatchItemResult<VehicleResponse>> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            results.add(vehicle != null
+                    ? BatchItemResult.created(i, vehicleMapper.toResponse(vehicle))
+                    : BatchItemResult.failed(i, errors.get(i)));
+        }
+        return BatchResponse.of(results);
+    }
+    
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.VEHICLES, allEntries = true)
     public VehicleResponse partialUpdate(UUID id, VehiclePatchRequest request) {
         log.info("Partially updating vehicle with id: {}", id);
         
         validatePatchRequestNotEmpty(request);
         
         Vehicle vehicle = findVehicleByIdOrThrow(id);
+        String previousPlaca = vehicle.getPlaca();
         
         updateVehicleFields(vehicle, request, id);
         
         vehicle = vehicleRepository.save(vehicle);
         log.info("Vehicle updated successfully with id: {}", id);
         
+        evictVehicleCaches(id, previousPlaca, vehicle.getPlaca());
+        
         return vehicleMapper.toResponse(vehicle);
     }
     
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.VEHICLES, allEntries = true)
     public void delete(UUID id) {
         log.info("Deleting vehicle with id: {}", id);
         
@@ -127,6 +263,8 @@ public class VehicleServiceImpl implements IVehicleService {
         vehicleRepository.delete(vehicle);
         
         log.info("Vehicle soft deleted successfully with id: {}", id);
+        
+        evictVehicleCaches(id, vehicle.getPlaca());
     }
     
     // Métodos auxiliares privados
@@ -136,6 +274,59 @@ public class VehicleServiceImpl implements IVehicleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Vehicle", "id", id));
     }
     
+    private void evictVehicleCaches(UUID id, String... placas) {
+        cacheInvalidator.evict(CacheNames.VEHICLES, id);
+        cacheInvalidator.evict(CacheNames.VEHICLE_MISSES, id);
+        for (String placa : placas) {
+            cacheInvalidator.evict(CacheNames.VEHICLES, placaKey(placa));
+            cacheInvalidator.evict(CacheNames.VEHICLE_MISSES, placaKey(placa));
+        }
+        cacheInvalidator.invalidatePages(CacheNames.VEHICLES);
+    }
+    
+    private void evictVehiclePlacaCaches(String placa) {
+        cacheInvalidator.evict(CacheNames.VEHICLES, placaKey(placa));
+        cacheInvalidator.evict(CacheNames.VEHICLE_MISSES, placaKey(placa));
+    }
+    
+    private Set<String> findExistingPlacas(List<VehicleRequest> requests, List<List<String>> errors) {
+        Set<String> placas = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                placas.add(normalizePlaca(requests.get(i).getPlaca()));
+            }
+        }
+        if (placas.isEmpty()) {
+            return Set.of();
+        }
+        return vehicleRepository.findExistingPlacas(placas).stream()
+                .map(this::normalizePlaca)
+                .collect(Collectors.toSet());
+    }
+    
+    private Map<UUID, Customer> findCustomers(List<VehicleRequest> requests, List<List<String>> errors) {
+        Set<UUID> customerIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                customerIds.add(requests.get(i).getClienteId());
+            }
+        }
+        if (customerIds.isEmpty()) {
+            return Map.of();
+        }
+        return customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+    }
+    
+    private String normalizePlaca(String placa) {
+        return placa.toUpperCase(Locale.ROOT);
+    }
+    
+    // A comparação de placa no banco ignora caixa, então as chaves de cache (inclusive a de findByPlaca) também
+    private String placaKey(String placa) {
+        return placa != null ? "placa_" + normalizePlaca(placa) : null;
+    }
+    
     private Customer findCustomerByIdOrThrow(UUID id) {
         return customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "id", id));
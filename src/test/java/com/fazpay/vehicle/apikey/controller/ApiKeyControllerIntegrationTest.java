@@ -0,0 +1,158 @@
+package com.fazpay.vehicle.apikey.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.apikey.dto.ApiKeyRequest;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.user.model.User;
+import com.fazpay.vehicle.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sem transação no teste: a revogação só chega ao cache do verificador
+ * depois do commit, como em produção.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("API Key Controller Integration Tests")
+class ApiKeyControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        userRepository.save(User.builder()
+                .username("integration")
+                .email("integration@fazpay.com")
+                .password("not-used")
+                .build());
+        accessToken = tokenProvider.generateToken("integration");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+    }
+
+    @Test
+    @DisplayName("Should authenticate with a created API key until it is revoked")
+    void shouldAuthenticateWithApiKeyUntilRevoked() throws Exception {
+        JsonNode created = createApiKey("batch-importer");
+        String id = created.get("id").asText();
+        String apiKey = created.get("apiKey").asText();
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("integration"));
+
+        mockMvc.perform(get("/api/v1/api-keys")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id))
+                .andExpect(jsonPath("$[0].name").value("batch-importer"))
+                .andExpect(jsonPath("$[0].apiKey").doesNotExist());
+
+        mockMvc.perform(delete("/api/v1/api-keys/" + id)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should return 403 when managing API keys with an API key")
+    void shouldReturn403WhenManagingApiKeysWithApiKey() throws Exception {
+        JsonNode created = createApiKey("batch-importer");
+        String id = created.get("id").asText();
+        String apiKey = created.get("apiKey").asText();
+
+        mockMvc.perform(post("/api/v1/api-keys")
+                        .header("X-API-Key", apiKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApiKeyRequest("escalated"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/api-keys")
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/v1/api-keys/" + id)
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isForbidden());
+
+        // A chave continua válida para o restante da API
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should not authenticate with a tampered API key")
+    void shouldNotAuthenticateWithTamperedApiKey() throws Exception {
+        String apiKey = createApiKey("batch-importer").get("apiKey").asText();
+        String tampered = apiKey.substring(0, apiKey.length() - 1) + (apiKey.endsWith("A") ? "B" : "A");
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("X-API-Key", tampered))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when revoking an API key of another user")
+    void shouldReturn404WhenRevokingApiKeyOfAnotherUser() throws Exception {
+        String id = createApiKey("batch-importer").get("id").asText();
+
+        mockMvc.perform(delete("/api/v1/api-keys/" + id)
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken("someone-else")))
+                .andExpect(status().isNotFound());
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM chaves_api");
+        jdbcTemplate.update("DELETE FROM usuarios");
+    }
+
+    private JsonNode createApiKey(String name) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/api-keys")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApiKeyRequest(name))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.apiKey").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,81 @@
+package com.fazpay.vehicle.apikey.service;
+
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import com.fazpay.vehicle.apikey.repository.ApiKeyRepository;
+import com.fazpay.vehicle.core.security.ApiKeyVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API Key Service Tests")
+class ApiKeyServiceTest {
+
+    private static final String HMAC_SECRET = "testApiKeyHmacSecretForMachineToMachineClients1234567890";
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyVerifier apiKeyVerifier;
+
+    private ApiKeyServiceImpl apiKeyService;
+
+    @BeforeEach
+    void setUp() {
+        apiKeyVerifier = new ApiKeyVerifier(apiKeyRepository, HMAC_SECRET, Duration.ofMinutes(1), 100);
+        apiKeyService = new ApiKeyServiceImpl(apiKeyRepository, apiKeyVerifier);
+    }
+
+    @Test
+    @DisplayName("Should not let a lookup made before the revocation commits re-cache the active key")
+    void shouldInvalidateVerifierCacheAfterRevocationCommits() {
+        // Given
+        ApiKeyVerifier.IssuedApiKey issued = apiKeyVerifier.issue();
+        ApiKey apiKey = stored(issued);
+        when(apiKeyRepository.findByKeyIdAndUsername(issued.keyId(), "integration")).thenReturn(Optional.of(apiKey));
+        when(apiKeyRepository.save(any(ApiKey.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // Antes do commit outras conexões ainda leem a linha ativa
+        when(apiKeyRepository.findByKeyId(issued.keyId()))
+                .thenReturn(Optional.of(stored(issued)))
+                .thenReturn(Optional.of(apiKey));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        apiKeyService.revoke("integration", issued.keyId());
+        ApiKeyVerifier.VerifiedApiKey concurrentLookup = apiKeyVerifier.verify(issued.apiKey());
+        completeTransaction();
+
+        // Then
+        assertThat(concurrentLookup).isNotNull();
+        assertThat(apiKey.getRevokedAt()).isNotNull();
+        assertThat(apiKeyVerifier.verify(issued.apiKey())).isNull();
+    }
+
+    private ApiKey stored(ApiKeyVerifier.IssuedApiKey issued) {
+        return ApiKey.builder()
+                .keyId(issued.keyId())
+                .secretHash(issued.secretHash())
+                .name("batch")
+                .username("integration")
+                .build();
+    }
+
+    private void completeTransaction() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+}
@@ -1,14 +1,21 @@
 package com.fazpay.vehicle.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.apikey.dto.ApiKeyRequest;
 import com.fazpay.vehicle.auth.dto.LoginRequest;
+import com.fazpay.vehicle.auth.dto.LogoutRequest;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
 import com.fazpay.vehicle.auth.dto.RegisterRequest;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
 import com.fazpay.vehicle.user.model.User;
 import com.fazpay.vehicle.user.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -17,7 +24,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+
 import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +50,12 @@ class AuthControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -108,5 +124,129 @@ class AuthControllerIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("Username already exists"));
     }
-}
 
+    @Test
+    @DisplayName("Should exchange a refresh token for new tokens")
+    void shouldExchangeRefreshTokenForNewTokens() throws Exception {
+        LoginRequest loginRequest = new LoginRequest("admin", "senha123");
+        String loginBody = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andExpect(jsonPath("$.expiresIn").isNumber())
+                .andReturn().getResponse().getContentAsString();
+        String refreshToken = objectMapper.readTree(loginBody).get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andExpect(jsonPath("$.username").value("admin"));
+    }
+
+    @Test
+    @DisplayName("Should not authenticate requests that carry a refresh token as bearer token")
+    void shouldNotAuthenticateWithRefreshToken() throws Exception {
+        String refreshToken = tokenProvider.generateRefreshToken("admin");
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + refreshToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should return 401 when refreshing with an access token")
+    void shouldReturn401WhenRefreshingWithAccessToken() throws Exception {
+        String accessToken = tokenProvider.generateToken("admin");
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(accessToken))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or expired refresh token"));
+    }
+
+    @Test
+    @DisplayName("Should reject the access and refresh tokens after logout")
+    void shouldRejectTokensAfterLogout() throws Exception {
+        String accessToken = tokenProvider.generateToken("admin");
+        String refreshToken = tokenProvider.generateRefreshToken("admin");
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LogoutRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should return 401 on logout without a bearer access token")
+    void shouldReturn401OnLogoutWithoutBearerToken() throws Exception {
+        // Autenticado por chave de API, então a requisição chega ao controller sem um bearer token válido
+        String created = mockMvc.perform(post("/api/v1/api-keys")
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken("admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApiKeyRequest("logout-client"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String apiKey = objectMapper.readTree(created).get("apiKey").asText();
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("X-API-Key", apiKey))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Missing, invalid or expired bearer access token"));
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("X-API-Key", apiKey)
+                        .header("Authorization", "Bear"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("X-API-Key", apiKey)
+                        .header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens without jti, which logout cannot revoke")
+    void shouldRejectTokensWithoutId() throws Exception {
+        // Formato anterior: sem jti, sem tipo e sem authorities
+        String legacyToken = Jwts.builder()
+                .subject("admin")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
+                .compact();
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isForbidden());
+
+        String created = mockMvc.perform(post("/api/v1/api-keys")
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken("admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApiKeyRequest("legacy-client"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String apiKey = objectMapper.readTree(created).get("apiKey").asText();
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("X-API-Key", apiKey)
+                        .header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(
+                        "Token has no id and cannot be revoked; sign in again to get a revocable token"));
+    }
+}
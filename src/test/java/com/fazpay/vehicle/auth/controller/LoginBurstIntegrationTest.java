@@ -0,0 +1,159 @@
+package com.fazpay.vehicle.auth.controller;
+
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.user.model.User;
+import com.fazpay.vehicle.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rajada de logins contra um pool de conexões mínimo: o BCrypt não pode segurar
+ * conexões, então as leituras autenticadas continuam respondendo e o excesso
+ * de logins recebe 503 com Retry-After em vez de enfileirar sem limite.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "app.security.hashing.threads=2",
+        "app.security.hashing.queue-capacity=4"
+})
+@DisplayName("Login Burst Integration Tests")
+class LoginBurstIntegrationTest {
+
+    private static final int LOGIN_BURST = 40;
+    private static final int READS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .username("burst")
+                .email("burst@fazpay.com")
+                .password(passwordEncoder.encode("senha123"))
+                .build());
+        accessToken = tokenProvider.generateToken("burst");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should keep authenticated reads fast and shed excess logins during a login burst")
+    void shouldKeepReadsFastAndShedExcessLoginsDuringBurst() throws Exception {
+        // Given
+        List<Long> baseline = readLatencies();
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(LOGIN_BURST);
+        List<CompletableFuture<HttpResponse<String>>> logins = new ArrayList<>();
+        try {
+            for (int i = 0; i < LOGIN_BURST; i++) {
+                logins.add(CompletableFuture.supplyAsync(this::login, pool));
+            }
+            List<Long> duringBurst = readLatencies();
+            CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).join();
+
+            log.info("Authenticated read latency baseline p50={}ms p95={}ms, during login burst p50={}ms p95={}ms",
+                    percentile(baseline, 50), percentile(baseline, 95),
+                    percentile(duringBurst, 50), percentile(duringBurst, 95));
+
+            // Then
+            assertThat(percentile(duringBurst, 95)).isLessThan(2_000L);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<HttpResponse<String>> responses = logins.stream().map(CompletableFuture::join).toList();
+        assertThat(responses).allSatisfy(response -> assertThat(response.statusCode()).isIn(200, 503));
+        assertThat(responses).anySatisfy(response -> assertThat(response.statusCode()).isEqualTo(200));
+        assertThat(responses).filteredOn(response -> response.statusCode() == 503)
+                .isNotEmpty()
+                .allSatisfy(response -> assertThat(response.headers().firstValue("Retry-After")).hasValue("1"));
+    }
+
+    private List<Long> readLatencies() throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < READS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/auth/me"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies.add((System.nanoTime() - start) / 1_000_000);
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private HttpResponse<String> login() {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"burst\",\"password\":\"senha123\"}"))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
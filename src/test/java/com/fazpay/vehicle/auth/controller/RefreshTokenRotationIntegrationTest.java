@@ -0,0 +1,111 @@
+package com.fazpay.vehicle.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.user.model.User;
+import com.fazpay.vehicle.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Renovações concorrentes com o mesmo refresh token: sem transação no teste,
+ * cada requisição grava a revogação de verdade e só uma pode vencer.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Refresh Token Rotation Integration Tests")
+class RefreshTokenRotationIntegrationTest {
+
+    private static final int CONCURRENT_REFRESHES = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM usuarios");
+        userRepository.save(User.builder()
+                .username("rotation")
+                .email("rotation@fazpay.com")
+                .password(passwordEncoder.encode("senha123"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM usuarios");
+    }
+
+    @Test
+    @DisplayName("Should issue new tokens to only one of several concurrent refreshes with the same token")
+    void shouldIssueTokensToOnlyOneConcurrentRefresh() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(
+                new RefreshTokenRequest(tokenProvider.generateRefreshToken("rotation")));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REFRESHES);
+
+        try {
+            // When
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return mockMvc.perform(post("/api/v1/auth/refresh")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            // Then
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(results).filteredOn(status -> status == 200).hasSize(1);
+            assertThat(results).filteredOn(status -> status == 401).hasSize(CONCURRENT_REFRESHES - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,10 +2,19 @@ package com.fazpay.vehicle.auth.service;
 
 import com.fazpay.vehicle.auth.dto.LoginRequest;
 import com.fazpay.vehicle.auth.dto.LoginResponse;
+import com.fazpay.vehicle.auth.dto.LogoutRequest;
+import com.fazpay.vehicle.auth.dto.RefreshTokenRequest;
 import com.fazpay.vehicle.auth.dto.RegisterRequest;
+import com.fazpay.vehicle.core.constants.ErrorMessages;
 import com.fazpay.vehicle.core.exception.BusinessException;
+import com.fazpay.vehicle.core.exception.InvalidTokenException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.fazpay.vehicle.core.exception.ServiceOverloadedException;
 import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.core.security.PasswordHashingExecutor;
+import com.fazpay.vehicle.core.security.TokenDenylist;
+import com.fazpay.vehicle.core.security.TokenType;
+import com.fazpay.vehicle.core.security.VerifiedToken;
 import com.fazpay.vehicle.user.model.User;
 import com.fazpay.vehicle.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +25,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,10 +60,13 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHasher;
 
     @Mock
-    private Authentication authentication;
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenDenylist tokenDenylist;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -77,10 +97,11 @@ class AuthServiceTest {
     void shouldAuthenticateUserSuccessfully() {
         // Given
         String expectedToken = "jwt.token.here";
+        Authentication authentication = new UsernamePasswordAuthenticationToken("admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
         
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(tokenProvider.generateToken(authentication)).thenReturn(expectedToken);
+        when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
+        when(tokenProvider.generateAccessToken(eq("admin"), any())).thenReturn(expectedToken);
 
         // When
         LoginResponse response = authService.login(loginRequest);
@@ -89,8 +110,37 @@ class AuthServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getToken()).isEqualTo(expectedToken);
         assertThat(response.getUsername()).isEqualTo("admin");
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(tokenProvider).generateToken(authentication);
+        verify(authenticationManager).authenticate(new UsernamePasswordAuthenticationToken("admin", "senha123"));
+        verify(tokenProvider).generateAccessToken(eq("admin"), any());
+    }
+
+    @Test
+    @DisplayName("Should not issue tokens when the authentication manager rejects the login")
+    void shouldNotIssueTokensWhenAuthenticationFails() {
+        // Given
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"))
+                .thenThrow(new DisabledException("User is disabled"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("admin", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(DisabledException.class);
+        verify(tokenProvider, never()).generateAccessToken(anyString(), any());
+        verify(tokenProvider, never()).generateRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("Should propagate overload when the hashing executor is saturated")
+    void shouldPropagateOverloadWhenHashingIsSaturated() {
+        // Given
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new ServiceOverloadedException("Too many authentication requests, please retry shortly", 1));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(ServiceOverloadedException.class);
     }
 
     @Test
@@ -102,7 +152,7 @@ class AuthServiceTest {
         
         when(userRepository.existsByUsername(registerRequest.getUsername())).thenReturn(false);
         when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn(encodedPassword);
+        when(passwordHasher.encode(registerRequest.getPassword())).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(tokenProvider.generateToken(anyString())).thenReturn(expectedToken);
 
@@ -114,7 +164,7 @@ class AuthServiceTest {
         assertThat(response.getToken()).isEqualTo(expectedToken);
         verify(userRepository).existsByUsername(registerRequest.getUsername());
         verify(userRepository).existsByEmail(registerRequest.getEmail());
-        verify(passwordEncoder).encode(registerRequest.getPassword());
+        verify(passwordHasher).encode(registerRequest.getPassword());
         verify(userRepository).save(any(User.class));
         verify(tokenProvider).generateToken(anyString());
     }
@@ -151,6 +201,157 @@ class AuthServiceTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should issue new tokens from a valid refresh token")
+    void shouldIssueNewTokensFromValidRefreshToken() {
+        // Given
+        VerifiedToken refreshToken = new VerifiedToken("admin", TokenType.REFRESH, "token-id", null,
+                Instant.now().plusSeconds(60));
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.withUsername("admin")
+                .password("$2a$10$hashedPassword")
+                .authorities("ROLE_USER")
+                .build();
+        when(tokenProvider.verifyToken("refresh.token.here")).thenReturn(refreshToken);
+        when(tokenDenylist.revoke(refreshToken)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(userDetails);
+        when(tokenProvider.generateAccessToken(eq("admin"), any())).thenReturn("new.access.token");
+        when(tokenProvider.generateRefreshToken("admin")).thenReturn("new.refresh.token");
+
+        // When
+        LoginResponse response = authService.refresh(new RefreshTokenRequest("refresh.token.here"));
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("new.access.token");
+        assertThat(response.getRefreshToken()).isEqualTo("new.refresh.token");
+        assertThat(response.getUsername()).isEqualTo("admin");
+        verify(userDetailsService).loadUserByUsername("admin");
+        verify(tokenDenylist).revoke(refreshToken);
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked refresh token")
+    void shouldRejectRevokedRefreshToken() {
+        // Given
+        VerifiedToken refreshToken = new VerifiedToken("admin", TokenType.REFRESH, "token-id", null,
+                Instant.now().plusSeconds(60));
+        when(tokenProvider.verifyToken("refresh.token.here")).thenReturn(refreshToken);
+        when(tokenDenylist.isRevoked("token-id")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("refresh.token.here")))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a refresh token that a concurrent refresh already used")
+    void shouldRejectRefreshTokenUsedConcurrently() {
+        // Given: passou pela denylist, mas outra renovação gravou o jti antes
+        VerifiedToken refreshToken = new VerifiedToken("admin", TokenType.REFRESH, "token-id", null,
+                Instant.now().plusSeconds(60));
+        when(tokenProvider.verifyToken("refresh.token.here")).thenReturn(refreshToken);
+        when(tokenDenylist.revoke(refreshToken)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("refresh.token.here")))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(tokenProvider, never()).generateAccessToken(anyString(), any());
+        verify(tokenProvider, never()).generateRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("Should revoke the access token and the own refresh token on logout")
+    void shouldRevokeAccessAndRefreshTokensOnLogout() {
+        // Given
+        VerifiedToken accessToken = new VerifiedToken("admin", TokenType.ACCESS, "access-id", List.of("ROLE_USER"),
+                Instant.now().plusSeconds(60));
+        VerifiedToken refreshToken = new VerifiedToken("admin", TokenType.REFRESH, "refresh-id", null,
+                Instant.now().plusSeconds(600));
+        VerifiedToken otherUserRefreshToken = new VerifiedToken("other", TokenType.REFRESH, "other-id", null,
+                Instant.now().plusSeconds(600));
+        when(tokenProvider.verifyToken("access.token")).thenReturn(accessToken);
+        when(tokenProvider.verifyToken("refresh.token")).thenReturn(refreshToken);
+        when(tokenProvider.verifyToken("other.refresh.token")).thenReturn(otherUserRefreshToken);
+
+        // When
+        authService.logout("access.token", new LogoutRequest("refresh.token"));
+        authService.logout("access.token", new LogoutRequest("other.refresh.token"));
+
+        // Then
+        verify(tokenDenylist, times(2)).revoke(accessToken);
+        verify(tokenDenylist).revoke(refreshToken);
+        verify(tokenDenylist, never()).revoke(otherUserRefreshToken);
+    }
+
+    @Test
+    @DisplayName("Should reject logout with an invalid or refresh token as access token")
+    void shouldRejectLogoutWithoutValidAccessToken() {
+        // Given
+        VerifiedToken refreshToken = new VerifiedToken("admin", TokenType.REFRESH, "refresh-id", null,
+                Instant.now().plusSeconds(600));
+        when(tokenProvider.verifyToken("refresh.token")).thenReturn(refreshToken);
+        when(tokenProvider.verifyToken("garbage")).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.logout("garbage", null))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authService.logout("refresh.token", null))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(tokenDenylist, never()).revoke(any());
+    }
+
+    @Test
+    @DisplayName("Should not report logout success for an access token without jti")
+    void shouldRejectLogoutWithNonRevocableAccessToken() {
+        // Given
+        VerifiedToken legacyToken = new VerifiedToken("admin", TokenType.ACCESS, null, null,
+                Instant.now().plusSeconds(600));
+        when(tokenProvider.verifyToken("legacy.token")).thenReturn(legacyToken);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.logout("legacy.token", null))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage(ErrorMessages.NON_REVOCABLE_TOKEN);
+
+        verify(tokenDenylist, never()).revoke(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an access token used as refresh token")
+    void shouldRejectAccessTokenUsedAsRefreshToken() {
+        // Given
+        VerifiedToken accessToken = new VerifiedToken("admin", TokenType.ACCESS, null, List.of("ROLE_USER"),
+                Instant.now().plusSeconds(60));
+        when(tokenProvider.verifyToken("access.token.here")).thenReturn(accessToken);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("access.token.here")))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("Invalid or expired refresh token");
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a refresh token of a user that no longer exists")
+    void shouldRejectRefreshTokenOfRemovedUser() {
+        // Given
+        VerifiedToken refreshToken = new VerifiedToken("removed", TokenType.REFRESH, "token-id", null,
+                Instant.now().plusSeconds(60));
+        when(tokenProvider.verifyToken("refresh.token.here")).thenReturn(refreshToken);
+        when(tokenDenylist.revoke(refreshToken)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("removed")).thenThrow(new UsernameNotFoundException("removed"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("refresh.token.here")))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(tokenProvider, never()).generateRefreshToken(anyString());
+    }
+
     @Test
     @DisplayName("Should get current user successfully")
     void shouldGetCurrentUserSuccessfully() {
@@ -0,0 +1,182 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("After Commit Eviction Cache Tests")
+class AfterCommitEvictionCacheTest {
+
+    private ConcurrentMapCache target;
+    private AfterCommitEvictionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        target = new ConcurrentMapCache("vehicles");
+        cache = new AfterCommitEvictionCache(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should defer eviction until the transaction completes")
+    void shouldDeferEvictionUntilTransactionCompletes() {
+        // Given
+        cache.put("key", "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict("key");
+
+        // Then
+        assertThat(target.get("key")).isNotNull();
+        completeTransaction();
+        assertThat(target.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict immediately when no transaction is active")
+    void shouldEvictImmediatelyWithoutTransaction() {
+        // Given
+        cache.put("key", "value");
+
+        // When
+        cache.evict("key");
+
+        // Then
+        assertThat(target.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should discard put of a value loaded before the key was evicted")
+    void shouldDiscardPutOfValueLoadedBeforeEviction() {
+        // Given
+        assertThat(cache.get("key")).isNull();
+
+        // When
+        cache.evict("key");
+        cache.put("key", "loaded-before-commit");
+
+        // Then
+        assertThat(target.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict a value loaded through get(key, loader) when the key was evicted during the load")
+    void shouldEvictValueLoadedConcurrentlyWithEviction() throws Exception {
+        // Given
+        ConcurrentMapCache unlockedTarget = new UnlockedLoadCache("vehicles");
+        AfterCommitEvictionCache unlockedCache = new AfterCommitEvictionCache(unlockedTarget);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // When: a leitura começa antes do commit e termina depois da invalidação
+            Future<String> load = executor.submit(() -> unlockedCache.get("key", () -> {
+                loading.countDown();
+                evicted.await(5, TimeUnit.SECONDS);
+                return "loaded-before-commit";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            unlockedCache.evict("key");
+            evicted.countDown();
+
+            // Then
+            assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-before-commit");
+            assertThat(unlockedTarget.get("key")).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a value loaded through get(key, loader) when nothing was evicted")
+    void shouldKeepValueLoadedWithoutEviction() {
+        // When
+        String value = cache.get("key", () -> "fresh");
+
+        // Then
+        assertThat(value).isEqualTo("fresh");
+        assertThat(target.get("key").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should accept put when no eviction happened since the miss")
+    void shouldAcceptPutWhenNoEvictionHappenedSinceMiss() {
+        // Given
+        assertThat(cache.get("key")).isNull();
+
+        // When
+        cache.evict("other");
+        cache.put("key", "fresh");
+
+        // Then
+        assertThat(cache.get("key").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should defer clear until the transaction completes")
+    void shouldDeferClearUntilTransactionCompletes() {
+        // Given
+        cache.put("key", "value");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(target.get("key")).isNotNull();
+        completeTransaction();
+        assertThat(target.get("key")).isNull();
+    }
+
+    private void completeTransaction() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    // Carrega sem travar a chave, como um cache remoto: a invalidação não espera o loader terminar
+    private static class UnlockedLoadCache extends ConcurrentMapCache {
+
+        UnlockedLoadCache(String name) {
+            super(name);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper existing = get(key);
+            if (existing != null) {
+                return (T) existing.get();
+            }
+            try {
+                T value = valueLoader.call();
+                put(key, value);
+                return value;
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        }
+    }
+}
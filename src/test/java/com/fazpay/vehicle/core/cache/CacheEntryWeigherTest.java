@@ -0,0 +1,76 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache Entry Weigher Tests")
+class CacheEntryWeigherTest {
+
+    private final CacheEntryWeigher weigher = new CacheEntryWeigher();
+
+    @Test
+    @DisplayName("Should weigh a page proportionally to its number of rows")
+    void shouldWeighPageProportionallyToRows() {
+        // Given
+        VehicleResponse vehicle = vehicle("ABC1234");
+        List<VehicleResponse> rows = IntStream.range(0, 100)
+                .mapToObj(i -> vehicle(String.format("ABC%04d", i)))
+                .toList();
+        PageImpl<VehicleResponse> page = new PageImpl<>(rows, PageRequest.of(0, 100), 100);
+
+        // When
+        int singleWeight = weigher.weigh(UUID.randomUUID(), vehicle);
+        int pageWeight = weigher.weigh("all_v0_0_100", page);
+
+        // Then
+        assertThat(pageWeight).isGreaterThan(singleWeight * 50);
+        assertThat(pageWeight).isLessThan(singleWeight * 200);
+    }
+
+    @Test
+    @DisplayName("Should give larger strings a larger weight")
+    void shouldGiveLargerStringsLargerWeight() {
+        // When
+        int small = weigher.weigh("k", "a");
+        int large = weigher.weigh("k", "a".repeat(1000));
+
+        // Then
+        assertThat(large - small).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("Should weigh empty collections with a positive weight")
+    void shouldWeighEmptyCollectionsWithPositiveWeight() {
+        // When
+        int weight = weigher.weigh("k", Collections.emptyList());
+
+        // Then
+        assertThat(weight).isPositive();
+    }
+
+    private VehicleResponse vehicle(String placa) {
+        return VehicleResponse.builder()
+                .id(UUID.randomUUID())
+                .placa(placa)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .clienteId(UUID.randomUUID())
+                .clienteNome("Cliente")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.repository.CacheInvalidationRepository;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.service.IVehicleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Cache Invalidation Integration Tests")
+class CacheInvalidationIntegrationTest {
+
+    @Autowired
+    private IVehicleService vehicleService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheInvalidationRepository invalidationRepository;
+
+    @Autowired
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationBroadcaster otherNodeBroadcaster;
+    private CacheManager otherNodeCacheManager;
+    private CacheVersions otherNodeVersions;
+    private CacheInvalidationPoller otherNodePoller;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        startOtherNode();
+
+        customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Replicado")
+                .cpf("52998224725")
+                .email("replicado@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+    }
+
+    @Test
+    @DisplayName("Should evict the entry on another node after a local write")
+    void shouldEvictEntryOnAnotherNodeAfterLocalWrite() {
+        // Given
+        VehicleResponse vehicle = vehicleService.create(vehicleRequest("NOD1234"));
+        Cache otherNodeVehicles = otherNodeCacheManager.getCache(CacheNames.VEHICLES);
+        otherNodeVehicles.put(vehicle.getId(), vehicle);
+        otherNodeVehicles.put("placa_NOD1234", vehicle);
+        long pageVersion = otherNodeVersions.current(CacheNames.VEHICLES);
+
+        // When
+        vehicleService.partialUpdate(vehicle.getId(), VehiclePatchRequest.builder().cor("Azul").build());
+        broadcaster.flush();
+        otherNodePoller.poll();
+
+        // Then
+        assertThat(otherNodeVehicles.get(vehicle.getId())).isNull();
+        assertThat(otherNodeVehicles.get("placa_NOD1234")).isNull();
+        assertThat(otherNodeVersions.current(CacheNames.VEHICLES)).isGreaterThan(pageVersion);
+    }
+
+    @Test
+    @DisplayName("Should not apply invalidations published by the same node")
+    void shouldNotApplyInvalidationsPublishedBySameNode() {
+        // Given
+        Cache otherNodeVehicles = otherNodeCacheManager.getCache(CacheNames.VEHICLES);
+        otherNodeVehicles.put("placa_OWN1234", "value");
+        long before = invalidationRepository.count();
+
+        // When
+        otherNodeVehicles.evict("placa_OWN1234");
+        otherNodeBroadcaster.flush();
+        otherNodeVehicles.put("placa_OWN1234", "value");
+        otherNodePoller.poll();
+
+        // Then
+        assertThat(invalidationRepository.count()).isEqualTo(before + 1);
+        assertThat(otherNodeVehicles.get("placa_OWN1234")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should apply invalidations written while the node was down when resuming from a snapshot mark")
+    void shouldApplyInvalidationsWrittenWhileNodeWasDown() {
+        // Given: o outro nó grava o snapshot e sai do ar
+        VehicleResponse vehicle = vehicleService.create(vehicleRequest("SNP1234"));
+        broadcaster.flush();
+        otherNodePoller.poll();
+        long snapshotMark = otherNodePoller.highWaterMark();
+        vehicleService.partialUpdate(vehicle.getId(), VehiclePatchRequest.builder().cor("Azul").build());
+        broadcaster.flush();
+
+        // When: ao subir de novo, restaura o valor antigo do snapshot
+        startOtherNode();
+        Cache otherNodeVehicles = otherNodeCacheManager.getCache(CacheNames.VEHICLES);
+        otherNodeVehicles.put(vehicle.getId(), vehicle);
+        otherNodePoller.resumeFrom(snapshotMark);
+        otherNodePoller.poll();
+
+        // Then
+        assertThat(otherNodeVehicles.get(vehicle.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should apply a lower-id batch that commits after higher ids were already read")
+    void shouldApplyLowerIdBatchCommittedLate() {
+        // Given: o lote de um terceiro nó pegou ids baixos, mas um lote posterior commitou antes
+        Cache otherNodeVehicles = otherNodeCacheManager.getCache(CacheNames.VEHICLES);
+        otherNodeVehicles.put("placa_LAT1234", "stale");
+        long base = invalidationRepository.findMaxId();
+        insertInvalidation(base + 600, "placa_FST1234");
+        otherNodePoller.poll();
+        assertThat(otherNodeVehicles.get("placa_LAT1234")).isNotNull();
+
+        // When: o lote com ids menores commita depois
+        insertInvalidation(base + 1, "placa_LAT1234");
+        otherNodePoller.poll();
+
+        // Then
+        assertThat(otherNodeVehicles.get("placa_LAT1234")).isNull();
+        assertThat(otherNodePoller.highWaterMark()).isEqualTo(base + 1);
+    }
+
+    private void startOtherNode() {
+        otherNodeBroadcaster = new CacheInvalidationBroadcaster(
+                invalidationRepository, transactionManager, "other-node", true);
+        CacheDependencyTracker tracker = new CacheDependencyTracker(List.of(), Duration.ofMinutes(10));
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(CacheNames.VEHICLES, CacheNames.CUSTOMERS);
+        otherNodeCacheManager = new DecoratingCacheManager(caffeine,
+                cache -> new AfterCommitEvictionCache(new TwoLevelCache(cache, null, otherNodeBroadcaster)));
+        otherNodeVersions = new CacheVersions();
+        CacheInvalidator otherNodeInvalidator = new CacheInvalidator(
+                otherNodeCacheManager, otherNodeVersions, tracker, otherNodeBroadcaster);
+        otherNodePoller = new CacheInvalidationPoller(
+                invalidationRepository, otherNodeInvalidator, otherNodeBroadcaster, Duration.ofHours(1), Duration.ofMinutes(1));
+        // Primeira execução apenas posiciona o nó no fim da tabela
+        broadcaster.flush();
+        otherNodePoller.poll();
+    }
+
+    private VehicleRequest vehicleRequest(String placa) {
+        return VehicleRequest.builder()
+                .placa(placa)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .clienteId(customer.getId())
+                .build();
+    }
+
+    private void insertInvalidation(long id, String cacheKey) {
+        jdbcTemplate.update("INSERT INTO cache_invalidacoes (id, node_id, type, cache_name, cache_key, created_at) "
+                + "VALUES (?, 'third-node', 'EVICT', ?, ?, CURRENT_TIMESTAMP)", id, CacheNames.VEHICLES, CacheKeyCodec.encode(cacheKey));
+        // Ids explícitos não avançam a identity do H2
+        jdbcTemplate.execute("ALTER TABLE cache_invalidacoes ALTER COLUMN id RESTART WITH " + (invalidationRepository.findMaxId() + 1));
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+}
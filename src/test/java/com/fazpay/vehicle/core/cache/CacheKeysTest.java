@@ -0,0 +1,93 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache Keys Tests")
+class CacheKeysTest {
+
+    private CacheVersions cacheVersions;
+    private CacheKeys cacheKeys;
+
+    @BeforeEach
+    void setUp() {
+        cacheVersions = new CacheVersions();
+        cacheKeys = new CacheKeys(cacheVersions);
+    }
+
+    @Test
+    @DisplayName("Should build the same key for equivalent filters")
+    void shouldBuildSameKeyForEquivalentFilters() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("placa"));
+
+        // When
+        String key = cacheKeys.page("vehicles", "filters", pageable, "Toyota", null, "");
+        String equivalentKey = cacheKeys.page("vehicles", "filters", pageable, "  toyota ", "  ", null);
+
+        // Then
+        assertThat(key).isEqualTo(equivalentKey);
+    }
+
+    @Test
+    @DisplayName("Should build different keys for different sort orders")
+    void shouldBuildDifferentKeysForDifferentSortOrders() {
+        // When
+        String byPlaca = cacheKeys.page("vehicles", "all", PageRequest.of(0, 10, Sort.by("placa")));
+        String byMarca = cacheKeys.page("vehicles", "all", PageRequest.of(0, 10, Sort.by("marca")));
+        String byPlacaDesc = cacheKeys.page("vehicles", "all", PageRequest.of(0, 10, Sort.by("placa").descending()));
+
+        // Then
+        assertThat(byPlaca).isNotEqualTo(byMarca).isNotEqualTo(byPlacaDesc);
+    }
+
+    @Test
+    @DisplayName("Should not let a separator inside a filter collide with another filter")
+    void shouldNotCollideFiltersContainingSeparator() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        String combined = cacheKeys.page("vehicles", "filters", pageable, "a,b", null);
+        String split = cacheKeys.page("vehicles", "filters", pageable, "a", "b");
+
+        // Then
+        assertThat(combined).isNotEqualTo(split);
+    }
+
+    @Test
+    @DisplayName("Should ignore the time of date filters")
+    void shouldIgnoreTimeOfDateFilters() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        String morning = cacheKeys.page("customers", "filters", pageable, null, LocalDateTime.of(2024, 1, 10, 8, 0));
+        String evening = cacheKeys.page("customers", "filters", pageable, null, LocalDateTime.of(2024, 1, 10, 20, 30));
+
+        // Then
+        assertThat(morning).isEqualTo(evening);
+    }
+
+    @Test
+    @DisplayName("Should change the key when the cache version changes")
+    void shouldChangeKeyWhenVersionChanges() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        String before = cacheKeys.page("vehicles", "all", pageable);
+
+        // When
+        cacheVersions.increment("vehicles");
+
+        // Then
+        assertThat(cacheKeys.page("vehicles", "all", pageable)).isNotEqualTo(before);
+    }
+}
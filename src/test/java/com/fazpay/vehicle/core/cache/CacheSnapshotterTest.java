@@ -0,0 +1,188 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.service.VehicleResponseOffHeapCodec;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cache Snapshotter Tests")
+class CacheSnapshotterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private CacheWarmer vehicleWarmer;
+
+    @Mock
+    private CacheInvalidationPoller invalidationPoller;
+
+    private CaffeineCacheManager cacheManager;
+    private Cache vehiclesCache;
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheNames.VEHICLES, Caffeine.newBuilder()
+                .maximumWeight(1024 * 1024)
+                .weigher(new CacheEntryWeigher())
+                .build());
+        vehiclesCache = cacheManager.getCache(CacheNames.VEHICLES);
+        snapshotPath = tempDir.resolve("snapshots/cache-snapshot.bin");
+        lenient().when(vehicleWarmer.cacheName()).thenReturn(CacheNames.VEHICLES);
+        lenient().when(vehicleWarmer.supports(any())).thenAnswer(invocation -> invocation.getArgument(0) instanceof UUID);
+    }
+
+    @Test
+    @DisplayName("Should restore hot values from a recent snapshot without touching the database")
+    void shouldRestoreValuesFromRecentSnapshot() {
+        // Given
+        UUID id = UUID.randomUUID();
+        vehiclesCache.put(id, vehicle(id));
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMinutes(2));
+        assertThat(snapshotter.snapshot()).isEqualTo(1);
+        vehiclesCache.clear();
+
+        // When
+        int restored = snapshotter.restore();
+
+        // Then
+        assertThat(restored).isEqualTo(1);
+        assertThat(vehiclesCache.get(id, VehicleResponse.class)).isEqualTo(vehicle(id));
+        verify(vehicleWarmer, never()).warm(any());
+    }
+
+    @Test
+    @DisplayName("Should reload keys through the warmer when the snapshot is too old to trust its values")
+    void shouldReloadKeysWhenSnapshotIsTooOld() {
+        // Given
+        UUID id = UUID.randomUUID();
+        vehiclesCache.put(id, vehicle(id));
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMillis(-1));
+        snapshotter.snapshot();
+        vehiclesCache.clear();
+
+        // When
+        int restored = snapshotter.restore();
+
+        // Then
+        assertThat(restored).isEqualTo(1);
+        assertThat(vehiclesCache.get(id)).isNull();
+        verify(vehicleWarmer).warm(id);
+    }
+
+    @Test
+    @DisplayName("Should replay invalidations written after the snapshot before serving restored values")
+    void shouldReplayInvalidationsAfterSnapshotMark() {
+        // Given
+        UUID id = UUID.randomUUID();
+        vehiclesCache.put(id, vehicle(id));
+        when(invalidationPoller.highWaterMark()).thenReturn(42L);
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMinutes(2));
+        snapshotter.snapshot();
+        vehiclesCache.clear();
+
+        // When
+        snapshotter.restore();
+
+        // Then
+        InOrder replay = inOrder(invalidationPoller);
+        replay.verify(invalidationPoller).resumeFrom(42L);
+        replay.verify(invalidationPoller).poll();
+    }
+
+    @Test
+    @DisplayName("Should reload keys through the warmer when the snapshot has no invalidation mark")
+    void shouldReloadKeysWhenInvalidationMarkIsUnknown() {
+        // Given
+        UUID id = UUID.randomUUID();
+        vehiclesCache.put(id, vehicle(id));
+        when(invalidationPoller.highWaterMark()).thenReturn(CacheInvalidationPoller.UNKNOWN_MARK);
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMinutes(2));
+        snapshotter.snapshot();
+        vehiclesCache.clear();
+
+        // When
+        snapshotter.restore();
+
+        // Then
+        assertThat(vehiclesCache.get(id)).isNull();
+        verify(vehicleWarmer).warm(id);
+        verify(invalidationPoller, never()).resumeFrom(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should skip keys that neither the warmer nor the codec can handle")
+    void shouldSkipUnsupportedEntries() {
+        // Given
+        vehiclesCache.put("all_v0_[]_unsorted_0_10", List.of());
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMinutes(2));
+
+        // When
+        int written = snapshotter.snapshot();
+
+        // Then
+        assertThat(written).isZero();
+    }
+
+    @Test
+    @DisplayName("Should start with empty caches when the snapshot is missing or corrupted")
+    void shouldIgnoreMissingOrCorruptedSnapshot() throws IOException {
+        // Given
+        CacheSnapshotter snapshotter = snapshotter(Duration.ofMinutes(2));
+        int missing = snapshotter.restore();
+        Files.createDirectories(snapshotPath.getParent());
+        Files.write(snapshotPath, new byte[] {1, 2, 3});
+
+        // When
+        int corrupted = snapshotter.restore();
+
+        // Then
+        assertThat(missing).isZero();
+        assertThat(corrupted).isZero();
+        verify(vehicleWarmer, never()).warm(any());
+    }
+
+    private CacheSnapshotter snapshotter(Duration maxValueAge) {
+        return new CacheSnapshotter(cacheManager, List.of(vehicleWarmer), List.of(new VehicleResponseOffHeapCodec()),
+                invalidationPoller, true, snapshotPath, 100, true, maxValueAge);
+    }
+
+    private VehicleResponse vehicle(UUID id) {
+        return VehicleResponse.builder()
+                .id(id)
+                .placa("SNP1234")
+                .marca("Honda")
+                .modelo("Civic")
+                .ano(2022)
+                .build();
+    }
+}
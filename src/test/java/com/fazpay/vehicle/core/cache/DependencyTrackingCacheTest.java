@@ -0,0 +1,92 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Dependency Tracking Cache Tests")
+class DependencyTrackingCacheTest {
+
+    private CacheDependencyTracker tracker;
+    private ConcurrentMapCache target;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CacheDependencyTracker(List.of(new OwnerDependencies()), Duration.ofMinutes(10));
+        target = new ConcurrentMapCache("vehicles");
+        cache = tracker.decorate(target);
+    }
+
+    @Test
+    @DisplayName("Should return dependents of an invalidated source")
+    void shouldReturnDependentsOfInvalidatedSource() {
+        // Given
+        cache.put("v1", "owner-a");
+        cache.put("v2", "owner-a");
+        cache.put("v3", "owner-b");
+
+        // When
+        Set<CacheDependencyTracker.DependentEntry> dependents = tracker.removeDependents("customers", "owner-a");
+
+        // Then
+        assertThat(dependents).containsExactlyInAnyOrder(
+                new CacheDependencyTracker.DependentEntry("vehicles", "v1"),
+                new CacheDependencyTracker.DependentEntry("vehicles", "v2"));
+    }
+
+    @Test
+    @DisplayName("Should drop an entry loaded while a dependency was invalidated")
+    void shouldDropEntryLoadedWhileDependencyWasInvalidated() {
+        // Given
+        assertThat(cache.get("v1")).isNull();
+
+        // When
+        tracker.removeDependents("customers", "owner-a");
+        cache.put("v1", "owner-a");
+
+        // Then
+        assertThat(target.get("v1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop a synchronously loaded entry when a dependency is invalidated during the load")
+    void shouldDropSynchronouslyLoadedEntryInvalidatedDuringLoad() {
+        // When
+        String value = cache.get("v1", () -> {
+            tracker.removeDependents("customers", "owner-a");
+            return "owner-a";
+        });
+
+        // Then
+        assertThat(value).isEqualTo("owner-a");
+        assertThat(target.get("v1")).isNull();
+    }
+
+    private static class OwnerDependencies implements CacheDependencies {
+
+        @Override
+        public String cacheName() {
+            return "vehicles";
+        }
+
+        @Override
+        public String sourceCacheName() {
+            return "customers";
+        }
+
+        @Override
+        public Collection<?> sourceKeys(Object value) {
+            return Set.of(value);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Off-Heap Store Tests")
+class OffHeapStoreTest {
+
+    private static final long CAPACITY = 4 * 64 * 1024;
+    private static final long TTL = Duration.ofMinutes(1).toNanos();
+
+    @Test
+    @DisplayName("Should return stored bytes once and remove them")
+    void shouldReturnStoredBytesOnce() {
+        // Given
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMinutes(1));
+        store.put("key", bytes("value"), TTL);
+
+        // When
+        OffHeapStore.Entry first = store.take("key");
+        OffHeapStore.Entry second = store.take("key");
+
+        // Then
+        assertThat(new String(first.bytes(), StandardCharsets.UTF_8)).isEqualTo("value");
+        assertThat(second).isNull();
+        assertThat(store.entryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest segment when the ring wraps around")
+    void shouldEvictOldestSegmentWhenRingWraps() {
+        // Given
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMinutes(1));
+        byte[] chunk = new byte[16 * 1024];
+        store.put("oldest", bytes("first"), TTL);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            store.put("filler-" + i, chunk, TTL);
+        }
+
+        // Then
+        assertThat(store.take("oldest")).isNull();
+        assertThat(store.take("filler-19").bytes()).hasSize(chunk.length);
+        assertThat(store.evictionCount()).isPositive();
+        assertThat(store.allocatedBytes()).isLessThanOrEqualTo(store.capacityBytes());
+    }
+
+    @Test
+    @DisplayName("Should not return expired entries")
+    void shouldNotReturnExpiredEntries() throws InterruptedException {
+        // Given
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMillis(1));
+        store.put("key", bytes("value"), TTL);
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        assertThat(store.take("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop every entry on clear")
+    void shouldDropEveryEntryOnClear() {
+        // Given
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMinutes(1));
+        store.put("a", bytes("1"), TTL);
+        store.put("b", bytes("2"), TTL);
+
+        // When
+        store.clear();
+
+        // Then
+        assertThat(store.take("a")).isNull();
+        assertThat(store.take("b")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the remaining time to live of each entry instead of a fresh one")
+    void shouldKeepRemainingTimeToLive() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMinutes(15), nanos::get);
+        store.put("almost-expired", bytes("old"), Duration.ofSeconds(30).toNanos());
+        store.put("fresh", bytes("new"), Duration.ofMinutes(10).toNanos());
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Then
+        assertThat(store.take("almost-expired")).isNull();
+        assertThat(store.take("fresh").expiresInNanos())
+                .isEqualTo(Duration.ofMinutes(10).minusSeconds(31).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should not store entries that have already expired")
+    void shouldNotStoreExpiredEntries() {
+        // Given
+        OffHeapStore store = new OffHeapStore(CAPACITY, Duration.ofMinutes(1));
+
+        // When
+        store.put("key", bytes("value"), 0);
+
+        // Then
+        assertThat(store.entryCount()).isZero();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.service.VehicleResponseOffHeapCodec;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Off-Heap Tier Cache Tests")
+class OffHeapTierCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    private final List<Object> tierChanges = new ArrayList<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> l1;
+    private OffHeapTier tier;
+    private OffHeapTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Ticker ticker = nanos::get;
+        tier = new OffHeapTier("vehicles", new OffHeapStore(256 * 1024, TTL, ticker),
+                new VehicleResponseOffHeapCodec(), (key, value) -> tierChanges.add(key));
+        l1 = Caffeine.newBuilder()
+                .maximumSize(2)
+                .expireAfter(new WriteExpiry(TTL, tier))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .evictionListener(tier::onEviction)
+                .build();
+        tier.attach(l1);
+        cache = new OffHeapTierCache(new CaffeineCache("vehicles", l1, false), tier);
+    }
+
+    @Test
+    @DisplayName("Should move size-evicted entries off-heap and promote them back on a miss")
+    void shouldMoveEvictedEntriesOffHeapAndPromoteThem() {
+        // Given
+        List<UUID> ids = fillBeyondCapacity();
+        UUID spilled = ids.stream().filter(id -> l1.getIfPresent(id) == null).findFirst().orElseThrow();
+
+        // When
+        VehicleResponse promoted = cache.get(spilled, VehicleResponse.class);
+
+        // Then
+        assertThat(promoted).isNotNull();
+        assertThat(promoted.getId()).isEqualTo(spilled);
+        assertThat(promoted.getPlaca()).startsWith("OFF");
+        assertThat(tier.getStore().entryCount()).isLessThanOrEqualTo(ids.size() - 1);
+        assertThat(tierChanges).contains(spilled);
+    }
+
+    @Test
+    @DisplayName("Should use the off-heap value before calling the loader")
+    void shouldUseOffHeapValueBeforeLoader() {
+        // Given
+        List<UUID> ids = fillBeyondCapacity();
+        UUID spilled = ids.stream().filter(id -> l1.getIfPresent(id) == null).findFirst().orElseThrow();
+
+        // When
+        VehicleResponse value = cache.get(spilled, () -> vehicle(spilled, "LOADER1"));
+
+        // Then
+        assertThat(value.getPlaca()).isNotEqualTo("LOADER1");
+    }
+
+    @Test
+    @DisplayName("Should remove the off-heap copy on evict")
+    void shouldRemoveOffHeapCopyOnEvict() {
+        // Given
+        List<UUID> ids = fillBeyondCapacity();
+        UUID spilled = ids.stream().filter(id -> l1.getIfPresent(id) == null).findFirst().orElseThrow();
+
+        // When
+        cache.evict(spilled);
+
+        // Then
+        assertThat(cache.get(spilled)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not move explicitly evicted entries off-heap")
+    void shouldNotMoveExplicitlyEvictedEntries() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.put(id, vehicle(id, "OFF0001"));
+
+        // When
+        cache.evict(id);
+
+        // Then
+        assertThat(tier.getStore().entryCount()).isZero();
+        assertThat(cache.get(id)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expire an entry demoted near the end of its time to live on schedule")
+    void shouldExpireDemotedEntryOnSchedule() {
+        // Given: gravado em t0 e movido para o off-heap aos 14 minutos
+        UUID id = UUID.randomUUID();
+        cache.put(id, vehicle(id, "OLD0001"));
+        advance(Duration.ofMinutes(14));
+        demoteAll();
+        assertThat(l1.getIfPresent(id)).isNull();
+
+        // When: 16 minutos depois da escrita, além do expire-after-write de 15
+        advance(Duration.ofMinutes(2));
+
+        // Then
+        assertThat(cache.get(id)).isNull();
+        assertThat(cache.get(id, () -> vehicle(id, "NEW0001")).getPlaca()).isEqualTo("NEW0001");
+    }
+
+    @Test
+    @DisplayName("Should promote an entry with the time to live it had left")
+    void shouldPromoteWithRemainingTimeToLive() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.put(id, vehicle(id, "OLD0001"));
+        advance(Duration.ofMinutes(10));
+        demoteAll();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        VehicleResponse promoted = cache.get(id, VehicleResponse.class);
+
+        // Then: restam 3 dos 15 minutos, não um prazo novo
+        assertThat(promoted.getPlaca()).isEqualTo("OLD0001");
+        assertThat(l1.policy().expireVariably().orElseThrow().getExpiresAfter(id, TimeUnit.MINUTES))
+                .hasValue(3);
+        advance(Duration.ofMinutes(4));
+        assertThat(cache.get(id)).isNull();
+    }
+
+    private List<UUID> fillBeyondCapacity() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            cache.put(id, vehicle(id, "OFF000" + i));
+        }
+        l1.cleanUp();
+        return ids;
+    }
+
+    // Evicção por tamanho de todo o L1, sem depender de qual entrada o Caffeine escolheria
+    private void demoteAll() {
+        l1.policy().eviction().orElseThrow().setMaximum(0);
+        l1.cleanUp();
+        l1.policy().eviction().orElseThrow().setMaximum(2);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private VehicleResponse vehicle(UUID id, String placa) {
+        return VehicleResponse.builder()
+                .id(id)
+                .placa(placa)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .clienteId(UUID.randomUUID())
+                .clienteNome("Cliente")
+                .build();
+    }
+}
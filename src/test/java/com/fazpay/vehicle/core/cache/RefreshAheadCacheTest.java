@@ -0,0 +1,145 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Refresh Ahead Cache Tests")
+class RefreshAheadCacheTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CacheRefresher refresher;
+    private CaffeineCache caffeineCache;
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Ticker ticker = nanos::get;
+        caffeineCache = new CaffeineCache("vehicles", Caffeine.newBuilder()
+                .expireAfter(new WriteExpiry(Duration.ofMinutes(15)))
+                .ticker(ticker)
+                .build(), false);
+        refresher = new CacheRefresher(transactionManager, 1, 10);
+        cache = new RefreshAheadCache(caffeineCache, Duration.ofMinutes(10), Duration.ofMinutes(15), refresher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should serve the current value and reload it in background after refresh-after-write")
+    void shouldServeCurrentValueAndReloadInBackground() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+        advance(Duration.ofMinutes(11));
+
+        // When
+        String served = cache.get("key", () -> "v" + loads.incrementAndGet());
+
+        // Then
+        assertThat(served).isEqualTo("v1");
+        awaitUntil(() -> "v2".equals(caffeineCache.get("key", String.class)));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not reload entries younger than refresh-after-write")
+    void shouldNotReloadYoungEntries() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+        advance(Duration.ofMinutes(5));
+
+        // When
+        String served = cache.get("key", () -> "v" + loads.incrementAndGet());
+
+        // Then
+        assertThat(served).isEqualTo("v1");
+        Thread.sleep(100);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let an eviction during the reload win over the reloaded value")
+    void shouldLetConcurrentEvictionWin() throws Exception {
+        // Given
+        cache.get("key", () -> "v1");
+        advance(Duration.ofMinutes(11));
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        AtomicInteger finishedReloads = new AtomicInteger();
+
+        // When
+        cache.get("key", () -> {
+            reloadStarted.countDown();
+            releaseReload.await(5, TimeUnit.SECONDS);
+            finishedReloads.incrementAndGet();
+            return "stale";
+        });
+        assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict("key");
+        releaseReload.countDown();
+
+        // Then
+        awaitUntil(() -> finishedReloads.get() == 1);
+        Thread.sleep(100);
+        assertThat(caffeineCache.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep serving the current value when the reload fails")
+    void shouldKeepServingCurrentValueWhenReloadFails() throws Exception {
+        // Given
+        cache.get("key", () -> "v1");
+        advance(Duration.ofMinutes(11));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String served = cache.get("key", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("database is slow");
+        });
+
+        // Then
+        assertThat(served).isEqualTo("v1");
+        awaitUntil(() -> attempts.get() == 1);
+        Thread.sleep(100);
+        assertThat(caffeineCache.get("key", String.class)).isEqualTo("v1");
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void awaitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.get()).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.fazpay.vehicle.core.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Single Flight Cache Tests")
+class SingleFlightCacheTest {
+
+    private static final int WAITING_CALLERS = 8;
+
+    private CacheLoadMetrics loadMetrics;
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        loadMetrics = new CacheLoadMetrics();
+        cache = new SingleFlightCache(new ConcurrentMapCache("vehicles", false), loadMetrics);
+    }
+
+    @Test
+    @DisplayName("Should run one load per key and count the callers that waited for it")
+    void shouldRunOneLoadPerKeyAndCountCoalescedCallers() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WAITING_CALLERS + 1);
+
+        try {
+            Future<String> first = executor.submit(() -> cache.get("hot", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await(5, TimeUnit.SECONDS);
+                return "value";
+            }));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            List<Future<String>> waiting = new ArrayList<>();
+            for (int i = 0; i < WAITING_CALLERS; i++) {
+                waiting.add(executor.submit(() -> cache.get("hot", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            for (Future<String> result : waiting) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(loadMetrics.coalescedCount("vehicles")).isEqualTo(WAITING_CALLERS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not count cache hits as coalesced loads")
+    void shouldNotCountHitsAsCoalesced() {
+        // Given
+        cache.put("hot", "value");
+
+        // When
+        String value = cache.get("hot", () -> "other");
+
+        // Then
+        assertThat(value).isEqualTo("value");
+        assertThat(loadMetrics.coalescedCount("vehicles")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count every caller that started together with the loading one")
+    void shouldCountCallersThatStartedTogether() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WAITING_CALLERS + 1);
+
+        try {
+            // When: todos disputam a chave antes de qualquer loader começar
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i <= WAITING_CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return cache.get("cold", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(loadMetrics.coalescedCount("vehicles")).isEqualTo(WAITING_CALLERS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should let waiting callers load again when the first load fails")
+    void shouldRetryWhenFirstLoadFails() throws Exception {
+        // Given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> failing = executor.submit(() -> cache.get("hot", () -> {
+                loadStarted.countDown();
+                releaseLoad.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("database unavailable");
+            }));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            Future<String> waiting = executor.submit(() -> cache.get("hot", () -> "value"));
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            // Then
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(failing).failsWithin(5, TimeUnit.SECONDS);
+            assertThat(loadMetrics.coalescedCount("vehicles")).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
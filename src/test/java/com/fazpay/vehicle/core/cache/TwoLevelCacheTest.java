@@ -0,0 +1,104 @@
+package com.fazpay.vehicle.core.cache;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Two Level Cache Tests")
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    private ConcurrentMapCache localCache;
+    private ConcurrentMapCache sharedCache;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        localCache = new ConcurrentMapCache("vehicles");
+        sharedCache = new ConcurrentMapCache("vehicles");
+        cache = new TwoLevelCache(localCache, sharedCache, broadcaster);
+    }
+
+    @Test
+    @DisplayName("Should promote shared entries into the local cache")
+    void shouldPromoteSharedEntriesIntoLocalCache() {
+        // Given
+        sharedCache.put("key", "value");
+
+        // When
+        Object value = cache.get("key").get();
+
+        // Then
+        assertThat(value).isEqualTo("value");
+        assertThat(localCache.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should load from the shared cache before calling the loader")
+    void shouldLoadFromSharedCacheBeforeCallingLoader() {
+        // Given
+        sharedCache.put("key", "shared");
+
+        // When
+        String value = cache.get("key", () -> "loaded");
+
+        // Then
+        assertThat(value).isEqualTo("shared");
+    }
+
+    @Test
+    @DisplayName("Should write loaded values to both levels")
+    void shouldWriteLoadedValuesToBothLevels() {
+        // When
+        cache.get("key", () -> "loaded");
+
+        // Then
+        assertThat(localCache.get("key").get()).isEqualTo("loaded");
+        assertThat(sharedCache.get("key").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("Should evict both levels and broadcast the eviction")
+    void shouldEvictBothLevelsAndBroadcast() {
+        // Given
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+
+        // When
+        cache.evict(key);
+
+        // Then
+        assertThat(localCache.get(key)).isNull();
+        assertThat(sharedCache.get(key)).isNull();
+        verify(broadcaster).publishEvict("vehicles", key);
+    }
+
+    @Test
+    @DisplayName("Should keep the shared level when applying a remote invalidation")
+    void shouldKeepSharedLevelWhenApplyingRemoteInvalidation() {
+        // Given
+        cache.put("key", "value");
+        when(broadcaster.isApplyingRemote()).thenReturn(true);
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(localCache.get("key")).isNull();
+        assertThat(sharedCache.get("key")).isNotNull();
+        verify(broadcaster).publish(CacheInvalidationType.CLEAR, "vehicles", null);
+    }
+}
@@ -0,0 +1,204 @@
+package com.fazpay.vehicle.core.cache.controller;
+
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.core.security.UserDetailsServiceImpl;
+import com.fazpay.vehicle.user.model.Role;
+import com.fazpay.vehicle.user.model.User;
+import com.fazpay.vehicle.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Cache Admin Controller Integration Tests")
+class CacheAdminControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String jwtToken;
+    private Cache vehiclesCache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM usuarios");
+        userRepository.save(User.builder()
+                .username("cacheadmin")
+                .email("cacheadmin@example.com")
+                .password(passwordEncoder.encode("senha123"))
+                .role(Role.ADMIN)
+                .build());
+        jwtToken = tokenProvider.generateAccessToken("cacheadmin", UserDetailsServiceImpl.ADMIN_AUTHORITIES);
+
+        vehiclesCache = cacheManager.getCache(CacheNames.VEHICLES);
+        vehiclesCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM usuarios");
+        vehiclesCache.clear();
+    }
+
+    @Test
+    @DisplayName("Should report hits, misses and estimated memory of a cache")
+    void shouldReportStatsOfCache() throws Exception {
+        // Given
+        String key = "placa_" + UUID.randomUUID();
+        vehiclesCache.put(key, "cached");
+        vehiclesCache.get(key);
+        vehiclesCache.get("placa_XYZ9999");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches/" + CacheNames.VEHICLES)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(CacheNames.VEHICLES))
+                .andExpect(jsonPath("$.hitCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.missCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.estimatedSizeBytes").value(greaterThan(0)))
+                .andExpect(jsonPath("$.maximumWeightBytes").value(greaterThan(0)));
+    }
+
+    @Test
+    @DisplayName("Should list statistics of every declared cache")
+    void shouldListStatsOfEveryCache() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'customers')]").exists())
+                .andExpect(jsonPath("$[?(@.name == 'users')]").exists())
+                .andExpect(jsonPath("$[?(@.name == 'vehicles')]").exists());
+    }
+
+    @Test
+    @DisplayName("Should evict a single UUID key and keep the others")
+    void shouldEvictSingleKey() throws Exception {
+        // Given
+        UUID evictedId = UUID.randomUUID();
+        UUID keptId = UUID.randomUUID();
+        vehiclesCache.put(evictedId, "evicted");
+        vehiclesCache.put(keptId, "kept");
+
+        // When
+        mockMvc.perform(delete("/api/v1/admin/caches/" + CacheNames.VEHICLES + "/keys/" + evictedId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        // Then
+        assertThat(vehiclesCache.get(evictedId)).isNull();
+        assertThat(vehiclesCache.get(keptId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict a single string key")
+    void shouldEvictSingleStringKey() throws Exception {
+        // Given
+        vehiclesCache.put("placa_ABC1234", "cached");
+
+        // When
+        mockMvc.perform(delete("/api/v1/admin/caches/" + CacheNames.VEHICLES + "/keys/placa_ABC1234")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        // Then
+        assertThat(vehiclesCache.get("placa_ABC1234")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown cache")
+    void shouldReturn404ForUnknownCache() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches/unknown")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should reject requests without authentication")
+    void shouldRejectRequestsWithoutAuthentication() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should reject users without the admin role")
+    void shouldRejectUsersWithoutAdminRole() throws Exception {
+        // Given
+        String key = "placa_" + UUID.randomUUID();
+        vehiclesCache.put(key, "cached");
+        String userToken = tokenProvider.generateToken("ordinaryuser");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/v1/admin/caches/" + CacheNames.VEHICLES + "/keys/" + key)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        assertThat(vehiclesCache.get(key)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should issue admin tokens on login to users with the admin role")
+    void shouldIssueAdminTokenOnLogin() throws Exception {
+        // Given
+        String response = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"cacheadmin\",\"password\":\"senha123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String loginToken = objectMapper.readTree(response).get("token").asText();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/caches")
+                        .header("Authorization", "Bearer " + loginToken))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,117 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.dto.PageResponse;
+import com.fazpay.vehicle.core.pagination.PageCount;
+import com.fazpay.vehicle.customer.dto.CustomerResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Encoded Response Cache Tests")
+class EncodedResponseCacheTest {
+
+    private EncodedResponseCache encodedResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        encodedResponseCache = new EncodedResponseCache(new ObjectMapper(), true, DataSize.ofMegabytes(1), 1024);
+    }
+
+    @Test
+    @DisplayName("Should reuse the encoded body of the same object instance")
+    void shouldReuseEncodedBodyOfSameInstance() {
+        // Given
+        CustomerResponse customer = customer("Maria");
+
+        // When
+        EncodedBody first = encodedResponseCache.encode(customer);
+        EncodedBody second = encodedResponseCache.encode(customer);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json())).contains("\"nome\":\"Maria\"");
+    }
+
+    @Test
+    @DisplayName("Should encode equal but distinct instances separately")
+    void shouldEncodeDistinctInstancesSeparately() {
+        // Given
+        UUID id = UUID.randomUUID();
+        CustomerResponse cached = CustomerResponse.builder().id(id).nome("Maria").build();
+        CustomerResponse reloaded = CustomerResponse.builder().id(id).nome("Maria").build();
+
+        // When
+        EncodedBody first = encodedResponseCache.encode(cached);
+        EncodedBody second = encodedResponseCache.encode(reloaded);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should build one page response per cached page")
+    void shouldBuildOnePageResponsePerCachedPage() {
+        // Given
+        PageImpl<CustomerResponse> page = new PageImpl<>(List.of(customer("Maria"), customer("Joao")));
+
+        // When & Then
+        assertThat(encodedResponseCache.pageResponse(page)).isSameAs(encodedResponseCache.pageResponse(page));
+        assertThat(encodedResponseCache.pageResponse(page).getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should only reuse the page response of a cached slice while its total stays the same")
+    void shouldReusePageResponseOnlyForSameTotal() {
+        // Given
+        SliceImpl<CustomerResponse> slice = new SliceImpl<>(List.of(customer("Maria")), PageRequest.of(0, 1), true);
+        PageResponse<CustomerResponse> counted = encodedResponseCache.pageResponse(slice, PageCount.exact(5));
+
+        // When
+        PageResponse<CustomerResponse> sameTotal = encodedResponseCache.pageResponse(slice, PageCount.exact(5));
+        PageResponse<CustomerResponse> uncounted = encodedResponseCache.pageResponse(slice, PageCount.none());
+
+        // Then
+        assertThat(sameTotal).isSameAs(counted);
+        assertThat(counted.getTotalPages()).isEqualTo(5);
+        assertThat(uncounted.getTotalElements()).isNull();
+        assertThat(uncounted.isHasNext()).isTrue();
+        assertThat(new String(encodedResponseCache.encode(uncounted).json())).doesNotContain("totalElements");
+    }
+
+    @Test
+    @DisplayName("Should produce a gzip variant that decompresses to the JSON")
+    void shouldProduceGzipVariantOfJson() throws Exception {
+        // Given
+        EncodedBody encoded = encodedResponseCache.encode(customer("Maria"));
+
+        // When
+        byte[] gzip = encoded.gzip();
+
+        // Then
+        assertThat(encoded.gzip()).isSameAs(gzip);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(input.readAllBytes()).isEqualTo(encoded.json());
+        }
+    }
+
+    private CustomerResponse customer(String nome) {
+        return CustomerResponse.builder()
+                .id(UUID.randomUUID())
+                .nome(nome)
+                .cpf("52998224725")
+                .email("maria@example.com")
+                .build();
+    }
+}
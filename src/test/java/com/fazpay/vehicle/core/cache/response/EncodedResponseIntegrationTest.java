@@ -0,0 +1,198 @@
+package com.fazpay.vehicle.core.cache.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.user.model.User;
+import com.fazpay.vehicle.user.repository.UserRepository;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import com.fazpay.vehicle.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Encoded Response Integration Tests")
+class EncodedResponseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String jwtToken;
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        clearCaches();
+        userRepository.save(User.builder()
+                .username("encoded")
+                .email("encoded@example.com")
+                .password(passwordEncoder.encode("senha123"))
+                .build());
+        jwtToken = tokenProvider.generateToken("encoded");
+
+        Customer customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Encoded")
+                .cpf("52998224725")
+                .email("cliente.encoded@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+        vehicle = vehicleRepository.save(Vehicle.builder()
+                .placa("ENC1234")
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .customer(customer)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+        clearCaches();
+    }
+
+    @Test
+    @DisplayName("Should serve the same encoded bytes for repeated cache hits")
+    void shouldServeSameBytesForRepeatedHits() throws Exception {
+        // When
+        MvcResult first = mockMvc.perform(get("/api/v1/veiculos/" + vehicle.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(jsonPath("$.placa").value("ENC1234"))
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/api/v1/veiculos/" + vehicle.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertThat(second.getResponse().getContentAsByteArray())
+                .isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(first.getResponse().getContentType()).startsWith("application/json");
+    }
+
+    @Test
+    @DisplayName("Should serve a gzip variant of large cached pages when the client accepts gzip")
+    void shouldServeGzipVariantOfLargePages() throws Exception {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            vehicleRepository.save(Vehicle.builder()
+                    .placa("GZP123" + i)
+                    .marca("Honda")
+                    .modelo("Civic")
+                    .ano(2022)
+                    .cor("Preto")
+                    .customer(vehicle.getCustomer())
+                    .build());
+        }
+
+        // When
+        MvcResult plain = mockMvc.perform(get("/api/v1/veiculos?size=50")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult gzip = mockMvc.perform(get("/api/v1/veiculos?size=50")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        byte[] plainBody = plain.getResponse().getContentAsByteArray();
+        assertThat(plainBody.length).isGreaterThanOrEqualTo(1024);
+        assertThat(plain.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzip.getResponse().getContentAsByteArray())).isEqualTo(plainBody);
+        JsonNode page = objectMapper.readTree(plainBody);
+        assertThat(page.get("content")).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Should serve fresh bytes after the cached vehicle is evicted")
+    void shouldServeFreshBytesAfterEviction() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v1/veiculos/" + vehicle.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(jsonPath("$.cor").value("Prata"));
+        jdbcTemplate.update("UPDATE veiculos SET cor = 'Azul' WHERE placa = 'ENC1234'");
+
+        // When
+        cacheManager.getCache(CacheNames.VEHICLES).evict(vehicle.getId());
+
+        // Then
+        mockMvc.perform(get("/api/v1/veiculos/" + vehicle.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cor").value("Azul"));
+    }
+
+    private byte[] gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        }
+    }
+
+    private void clearCaches() {
+        cacheManager.getCache(CacheNames.VEHICLES).clear();
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+        jdbcTemplate.update("DELETE FROM usuarios");
+    }
+}
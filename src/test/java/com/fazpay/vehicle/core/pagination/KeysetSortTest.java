@@ -0,0 +1,107 @@
+package com.fazpay.vehicle.core.pagination;
+
+import com.fazpay.vehicle.core.dto.CursorPageResponse;
+import com.fazpay.vehicle.core.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Keyset Sort Tests")
+class KeysetSortTest {
+
+    private final KeysetSort keysetSort = KeysetSort.of("placa", Map.of(
+            "placa", value -> value,
+            "createdAt", LocalDateTime::parse));
+
+    @Test
+    @DisplayName("Should return a page of size items and a cursor pointing at the last one")
+    void shouldReturnPageAndCursorForLastItem() {
+        // Given
+        Row first = new Row(UUID.randomUUID(), "AAA1111", LocalDateTime.of(2024, 5, 10, 14, 30));
+        Row second = new Row(UUID.randomUUID(), "BBB2222", LocalDateTime.of(2024, 5, 10, 14, 30, 15, 123_000_000));
+        Row extra = new Row(UUID.randomUUID(), "CCC3333", LocalDateTime.of(2024, 5, 11, 9, 0));
+
+        // When
+        CursorPageResponse<String> response = keysetSort.response(List.of(first, second, extra), "createdAt", 2, Row::getPlaca);
+
+        // Then
+        assertThat(response.getContent()).containsExactly("AAA1111", "BBB2222");
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(decode(response.getNextCursor())).isEqualTo("createdAt\n" + second.getId() + "\n2024-05-10T14:30:15.123");
+        assertThat(keysetSort.<Row>after("createdAt", response.getNextCursor())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on the last page")
+    void shouldHandleFirstAndLastPage() {
+        // Given
+        List<Row> rows = List.of(new Row(UUID.randomUUID(), "ABC1234", LocalDateTime.now()));
+
+        // When
+        CursorPageResponse<String> response = keysetSort.response(rows, "placa", 2, Row::getPlaca);
+
+        // Then
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should use the default field and reject fields outside the whitelist")
+    void shouldResolveOnlyWhitelistedFields() {
+        assertThat(keysetSort.resolve(null)).isEqualTo("placa");
+        assertThat(keysetSort.resolve("createdAt")).isEqualTo("createdAt");
+        assertThatThrownBy(() -> keysetSort.resolve("marca"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("createdAt, placa");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and cursors created for another sort field")
+    void shouldRejectInvalidCursors() {
+        // Given
+        String placaCursor = encode("placa\n" + UUID.randomUUID() + "\nABC1234");
+
+        // When & Then
+        assertThatThrownBy(() -> keysetSort.after("createdAt", placaCursor)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> keysetSort.after("placa", "not base64!")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> keysetSort.after("placa", encode("placa\nnot-a-uuid\nABC1234")))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> keysetSort.after("createdAt", encode("createdAt\n" + UUID.randomUUID() + "\nyesterday")))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should only accept page sizes between 1 and the maximum")
+    void shouldValidatePageSize() {
+        keysetSort.validateSize(KeysetSort.MAX_PAGE_SIZE);
+        assertThatThrownBy(() -> keysetSort.validateSize(0)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> keysetSort.validateSize(KeysetSort.MAX_PAGE_SIZE + 1)).isInstanceOf(BusinessException.class);
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private UUID id;
+        private String placa;
+        private LocalDateTime createdAt;
+    }
+}
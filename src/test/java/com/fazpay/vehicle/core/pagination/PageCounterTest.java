@@ -0,0 +1,90 @@
+package com.fazpay.vehicle.core.pagination;
+
+import com.fazpay.vehicle.core.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Page Counter Tests")
+class PageCounterTest {
+
+    private final PageCounter pageCounter = new PageCounter(100);
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should not count in none mode")
+    void shouldNotCountInNoneMode() {
+        // When
+        PageCount count = pageCounter.count(CountMode.NONE, middlePage(), exact(500), upTo(500));
+
+        // Then
+        assertThat(count).isEqualTo(PageCount.none());
+        assertThat(queries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should derive the total from the last page without querying")
+    void shouldDeriveTotalFromLastPage() {
+        // Given
+        Slice<String> lastPage = new SliceImpl<>(List.of("a", "b"), PageRequest.of(3, 10), false);
+
+        // When
+        PageCount count = pageCounter.count(CountMode.CACHED, lastPage, exact(500), upTo(500));
+
+        // Then
+        assertThat(count).isEqualTo(PageCount.exact(32));
+        assertThat(queries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should use the exact count in cached mode")
+    void shouldUseExactCountInCachedMode() {
+        assertThat(pageCounter.count(CountMode.CACHED, middlePage(), exact(500), upTo(500))).isEqualTo(PageCount.exact(500));
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should count up to the limit in approximate mode and report a lower bound above it")
+    void shouldBoundCountInApproximateMode() {
+        assertThat(pageCounter.count(CountMode.APPROXIMATE, middlePage(), exact(500), upTo(40))).isEqualTo(PageCount.exact(40));
+        assertThat(pageCounter.count(CountMode.APPROXIMATE, middlePage(), exact(500), upTo(500))).isEqualTo(PageCount.atLeast(100));
+    }
+
+    @Test
+    @DisplayName("Should parse count modes ignoring case and default to cached")
+    void shouldParseCountModes() {
+        assertThat(CountMode.from(null)).isEqualTo(CountMode.CACHED);
+        assertThat(CountMode.from("None")).isEqualTo(CountMode.NONE);
+        assertThat(CountMode.from("approximate")).isEqualTo(CountMode.APPROXIMATE);
+        assertThatThrownBy(() -> CountMode.from("all")).isInstanceOf(BusinessException.class);
+    }
+
+    private static Slice<String> middlePage() {
+        return new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true);
+    }
+
+    private LongSupplier exact(long total) {
+        return () -> {
+            queries.incrementAndGet();
+            return total;
+        };
+    }
+
+    // Simula a consulta com limite: devolve no máximo limit linhas
+    private IntToLongFunction upTo(long total) {
+        return limit -> {
+            queries.incrementAndGet();
+            return Math.min(total, limit);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.fazpay.vehicle.core.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Id Gap Tracker Tests")
+class IdGapTrackerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private IdGapTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new IdGapTracker(Duration.ofSeconds(30), 1_000, nanos::get);
+        tracker.reset(10);
+    }
+
+    @Test
+    @DisplayName("Should await skipped ids until they are read")
+    void shouldAwaitSkippedIdsUntilRead() {
+        // When
+        tracker.record(11);
+        tracker.record(14);
+
+        // Then
+        assertThat(tracker.lastSeenId()).isEqualTo(14);
+        assertThat(tracker.pendingGaps()).containsExactly(12L, 13L);
+        assertThat(tracker.safeMark()).isEqualTo(11);
+
+        tracker.record(12);
+        tracker.record(13);
+        assertThat(tracker.pendingGaps()).isEmpty();
+        assertThat(tracker.safeMark()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should give up on skipped ids after the timeout")
+    void shouldGiveUpOnSkippedIdsAfterTimeout() {
+        // Given
+        tracker.record(12);
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Then
+        assertThat(tracker.pendingGaps()).isEmpty();
+        assertThat(tracker.safeMark()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent gaps when ids jump past the limit")
+    void shouldKeepOnlyMostRecentGapsPastLimit() {
+        // When
+        tracker.record(5_000);
+
+        // Then
+        assertThat(tracker.pendingGaps()).hasSize(1_000).startsWith(4_000L).endsWith(4_999L);
+    }
+}
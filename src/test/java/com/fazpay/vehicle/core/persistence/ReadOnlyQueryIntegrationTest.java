@@ -0,0 +1,81 @@
+package com.fazpay.vehicle.core.persistence;
+
+import com.fazpay.vehicle.core.cache.model.CacheInvalidation;
+import com.fazpay.vehicle.core.cache.model.CacheInvalidationType;
+import com.fazpay.vehicle.core.cache.repository.CacheInvalidationRepository;
+import com.fazpay.vehicle.core.security.model.RevokedToken;
+import com.fazpay.vehicle.core.security.repository.RevokedTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Read-Only Query Integration Tests")
+class ReadOnlyQueryIntegrationTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should load polled revocations as read-only entities")
+    void shouldLoadPolledRevocationsAsReadOnly() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        RevokedToken saved = revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .username("readonly")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<RevokedToken> revocations = revokedTokenRepository.findTop500ByIdGreaterThanOrderByIdAsc(saved.getId() - 1);
+
+        // Then
+        assertThat(revocations).extracting(RevokedToken::getTokenId).containsExactly(tokenId);
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(revocations.get(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not write back changes to polled cache invalidations")
+    void shouldNotWriteBackChangesToPolledInvalidations() {
+        // Given
+        CacheInvalidation saved = cacheInvalidationRepository.save(CacheInvalidation.builder()
+                .nodeId("node-a")
+                .type(CacheInvalidationType.EVICT)
+                .cacheName("vehicles")
+                .cacheKey("key")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CacheInvalidation polled = cacheInvalidationRepository.findTop500ByIdGreaterThanOrderByIdAsc(saved.getId() - 1).get(0);
+        polled.setNodeId("node-b");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(cacheInvalidationRepository.findById(saved.getId()).orElseThrow().getNodeId()).isEqualTo("node-a");
+    }
+}
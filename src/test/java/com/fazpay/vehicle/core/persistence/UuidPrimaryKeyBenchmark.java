@@ -0,0 +1,129 @@
+package com.fazpay.vehicle.core.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserção de 100 mil linhas em lote em uma tabela no formato de veiculos (PK + índice de
+ * cliente_id), comparando o formato antigo (VARCHAR(36) com UUIDv4) com
+ * BINARY(16) com UUIDv4 e com UUIDv7. Ao fim de cada iteração, imprime o
+ * espaço em disco da tabela e dos índices. Roda em H2 em arquivo, não em
+ * InnoDB, então vale a comparação relativa, não os números absolutos.
+ * Executar com: mvn -B test -Pbenchmark -DskipTests -Dbenchmark=UuidPrimaryKeyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int CUSTOMERS = 1_000;
+
+    @Param({"VARCHAR36_V4", "BINARY16_V4", "BINARY16_V7"})
+    public String idFormat;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Object[] customerIds;
+    private long rows;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("uuid-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("db") + ";MODE=MySQL", "sa", "");
+        connection.setAutoCommit(false);
+
+        String idType = idFormat.startsWith("VARCHAR") ? "VARCHAR(36)" : "BINARY(16)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE veiculos (id " + idType + " PRIMARY KEY, placa VARCHAR(7) NOT NULL, "
+                    + "cliente_id " + idType + " NOT NULL)");
+            statement.execute("CREATE INDEX idx_cliente_id ON veiculos (cliente_id)");
+        }
+        connection.commit();
+
+        customerIds = new Object[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = nextId();
+        }
+        insert = connection.prepareStatement("INSERT INTO veiculos (id, placa, cliente_id) VALUES (?, ?, ?)");
+        rows = 0;
+    }
+
+    // Tempo para inserir ROWS linhas em lotes de BATCH_SIZE, numa tabela vazia
+    @Benchmark
+    public void insertRows() throws SQLException {
+        while (rows < ROWS) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setObject(1, nextId());
+                insert.setString(2, "ABC" + (rows % 10_000));
+                insert.setObject(3, customerIds[(int) (rows % CUSTOMERS)]);
+                insert.addBatch();
+                rows++;
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+            try (ResultSet result = statement.executeQuery("SELECT DISK_SPACE_USED('VEICULOS')")) {
+                result.next();
+                long bytes = result.getLong(1);
+                System.out.printf("%n%s: %d rows, %.1f MB on disk (%.1f bytes/row)%n",
+                        idFormat, rows, bytes / 1_048_576.0, rows > 0 ? (double) bytes / rows : 0);
+            }
+        }
+        insert.close();
+        connection.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private Object nextId() {
+        return switch (idFormat) {
+            case "VARCHAR36_V4" -> UUID.randomUUID().toString();
+            case "BINARY16_V4" -> toBytes(UUID.randomUUID());
+            default -> toBytes(UuidV7.generate());
+        };
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,56 @@
+package com.fazpay.vehicle.core.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UUIDv7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should generate version 7 ids with the RFC variant and the current timestamp")
+    void shouldGenerateVersion7Ids() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = UuidV7.generate();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(id)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Should generate unique ids whose byte order follows the generation order")
+    void shouldGenerateOrderedUniqueIds() {
+        // When
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // Then
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            // Comparação sem sinal dos 64 bits altos, como num BINARY(16)
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(), ids.get(i - 1).getMostSignificantBits()))
+                    .isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to read a timestamp from a non-v7 id")
+    void shouldRefuseTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
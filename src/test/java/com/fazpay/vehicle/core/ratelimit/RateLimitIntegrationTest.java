@@ -0,0 +1,80 @@
+package com.fazpay.vehicle.core.ratelimit;
+
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.core.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.defaults.capacity=1000",
+        "app.rate-limit.classes.bulk.patterns=/api/v1/*/all",
+        "app.rate-limit.classes.bulk.methods=GET",
+        "app.rate-limit.classes.bulk.capacity=2",
+        "app.rate-limit.classes.bulk.refill-per-second=0.01"
+})
+@DisplayName("Rate Limit Integration Tests")
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After once a user exhausts the bulk endpoint class")
+    void shouldReturn429WhenUserExhaustsBulkClass() throws Exception {
+        String flooder = "Bearer " + tokenProvider.generateToken("flooder");
+        String neighbour = "Bearer " + tokenProvider.generateToken("neighbour");
+
+        MvcResult first = mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", flooder))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-RateLimit-Limit", "2"))
+                .andExpect(header().string("X-RateLimit-Remaining", "1"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk());
+        MvcResult second = mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", flooder))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", flooder))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Outras classes e outros usuários têm buckets próprios
+        mockMvc.perform(get("/api/v1/veiculos").header("Authorization", flooder))
+                .andExpect(status().isOk());
+        MvcResult neighbourCall = mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", neighbour))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(neighbourCall))
+                .andExpect(status().isOk());
+
+        // Contadores só para administradores
+        mockMvc.perform(get("/api/v1/admin/rate-limits").header("Authorization", neighbour))
+                .andExpect(status().isForbidden());
+        String admin = "Bearer " + tokenProvider.generateAccessToken("ratelimitadmin", UserDetailsServiceImpl.ADMIN_AUTHORITIES);
+        mockMvc.perform(get("/api/v1/admin/rate-limits").header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.endpointClass == 'bulk')].rejectedCount", hasItem(1)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.fazpay.vehicle.core.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Should allow a full burst and then report the wait for the next token")
+    void shouldAllowBurstThenReportWait() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        // When & Then
+        assertThat(bucket.tryConsume(0)).isEqualTo(2);
+        assertThat(bucket.tryConsume(0)).isEqualTo(1);
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(-SECOND);
+        assertThat(bucket.tryConsume(SECOND / 2)).isEqualTo(-SECOND / 2);
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate without exceeding the capacity")
+    void shouldRefillAtConfiguredRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // When & Then
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+        assertThat(bucket.tryConsume(SECOND / 2)).isNegative();
+        assertThat(bucket.tryConsume(60 * SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the capacity under concurrent consumers")
+    void shouldNeverOverAdmitUnderConcurrency() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(1_000, 0.001, 0);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < 500; j++) {
+                    if (bucket.tryConsume(0) >= 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(admitted.get()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import com.fazpay.vehicle.apikey.repository.ApiKeyRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de autenticar uma integração: senha com BCrypt (caminho do /auth/login)
+ * contra chave de API verificada por HMAC com o registro em cache.
+ * Executar com: mvn -B test -Pbenchmark -DskipTests -Dbenchmark=ApiKeyVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiKeyVerificationBenchmark {
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String passwordHash;
+    private ApiKeyVerifier verifier;
+    private String apiKey;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        passwordHash = passwordEncoder.encode("senha123");
+
+        ApiKeyRepository repository = Mockito.mock(ApiKeyRepository.class);
+        verifier = new ApiKeyVerifier(repository, "benchmarkApiKeyHmacSecretForMachineToMachineClients", Duration.ofHours(1), 100);
+        ApiKeyVerifier.IssuedApiKey issued = verifier.issue();
+        Mockito.when(repository.findByKeyId(issued.keyId())).thenReturn(Optional.of(ApiKey.builder()
+                .keyId(issued.keyId())
+                .secretHash(issued.secretHash())
+                .name("benchmark")
+                .username("benchmark-user")
+                .build()));
+        apiKey = issued.apiKey();
+    }
+
+    @Benchmark
+    public boolean bcryptPassword() {
+        return passwordEncoder.matches("senha123", passwordHash);
+    }
+
+    @Benchmark
+    public ApiKeyVerifier.VerifiedApiKey hmacApiKey() {
+        return verifier.verify(apiKey);
+    }
+}
@@ -0,0 +1,109 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.apikey.model.ApiKey;
+import com.fazpay.vehicle.apikey.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API Key Verifier Tests")
+class ApiKeyVerifierTest {
+
+    private static final String HMAC_SECRET = "testApiKeyHmacSecretForMachineToMachineClients1234567890";
+
+    @Mock
+    private ApiKeyRepository repository;
+
+    private ApiKeyVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new ApiKeyVerifier(repository, HMAC_SECRET, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("Should verify an issued key and serve later lookups from the cache")
+    void shouldVerifyIssuedKeyAndCacheLookup() {
+        // Given
+        ApiKeyVerifier.IssuedApiKey issued = verifier.issue();
+        when(repository.findByKeyId(issued.keyId())).thenReturn(Optional.of(stored(issued, null)));
+
+        // When
+        ApiKeyVerifier.VerifiedApiKey first = verifier.verify(issued.apiKey());
+        ApiKeyVerifier.VerifiedApiKey second = verifier.verify(issued.apiKey());
+
+        // Then
+        assertThat(issued.apiKey()).startsWith("ovk_" + issued.keyId() + ".");
+        assertThat(issued.secretHash()).hasSize(64).doesNotContain(issued.apiKey().substring(21));
+        assertThat(first).isEqualTo(new ApiKeyVerifier.VerifiedApiKey(issued.keyId(), "integration"));
+        assertThat(second).isEqualTo(first);
+        verify(repository, times(1)).findByKeyId(issued.keyId());
+    }
+
+    @Test
+    @DisplayName("Should reject a key with the wrong secret")
+    void shouldRejectWrongSecret() {
+        // Given
+        ApiKeyVerifier.IssuedApiKey issued = verifier.issue();
+        ApiKeyVerifier.IssuedApiKey other = verifier.issue();
+        when(repository.findByKeyId(issued.keyId())).thenReturn(Optional.of(stored(issued, null)));
+        String forged = "ovk_" + issued.keyId() + other.apiKey().substring(other.apiKey().indexOf('.'));
+
+        // When & Then
+        assertThat(verifier.verify(forged)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject revoked keys until the cache entry is invalidated")
+    void shouldRejectRevokedKeysAfterInvalidation() {
+        // Given
+        ApiKeyVerifier.IssuedApiKey issued = verifier.issue();
+        when(repository.findByKeyId(issued.keyId()))
+                .thenReturn(Optional.of(stored(issued, null)))
+                .thenReturn(Optional.of(stored(issued, LocalDateTime.now())));
+        assertThat(verifier.verify(issued.apiKey())).isNotNull();
+
+        // When
+        verifier.invalidate(issued.keyId());
+
+        // Then
+        assertThat(verifier.verify(issued.apiKey())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed keys without querying the database")
+    void shouldRejectMalformedKeysWithoutQueryingDatabase() {
+        // When & Then
+        assertThat(verifier.verify(null)).isNull();
+        assertThat(verifier.verify("")).isNull();
+        assertThat(verifier.verify("not-an-api-key")).isNull();
+        assertThat(verifier.verify("ovk_short.secret")).isNull();
+        assertThat(verifier.verify("xyz_0123456789abcdef.secret")).isNull();
+        verify(repository, never()).findByKeyId(anyString());
+    }
+
+    private ApiKey stored(ApiKeyVerifier.IssuedApiKey issued, LocalDateTime revokedAt) {
+        return ApiKey.builder()
+                .keyId(issued.keyId())
+                .secretHash(issued.secretHash())
+                .name("batch")
+                .username("integration")
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.fazpay.vehicle.core.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JWT Token Provider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationWithAtLeast256BitsLength12345678901234567890";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = tokenProvider(3_600_000L);
+    }
+
+    @Test
+    @DisplayName("Should verify a valid token and serve later verifications from the cache")
+    void shouldVerifyTokenOnceAndCacheIt() {
+        // Given
+        String token = tokenProvider.generateToken("testuser");
+
+        // When
+        VerifiedToken first = tokenProvider.verifyToken(token);
+        VerifiedToken second = tokenProvider.verifyToken(token);
+
+        // Then
+        assertThat(first.username()).isEqualTo("testuser");
+        assertThat(first.expiresAt()).isAfter(Instant.now());
+        assertThat(second).isSameAs(first);
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should carry authorities in access tokens and keep refresh tokens apart")
+    void shouldCarryAuthoritiesInAccessTokensAndKeepRefreshTokensApart() {
+        // Given
+        String accessToken = tokenProvider.generateAccessToken("testuser",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        String refreshToken = tokenProvider.generateRefreshToken("testuser");
+
+        // When
+        VerifiedToken access = tokenProvider.verifyToken(accessToken);
+        VerifiedToken refresh = tokenProvider.verifyToken(refreshToken);
+
+        // Then
+        assertThat(access.isAccessToken()).isTrue();
+        assertThat(access.authorities()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(refresh.isRefreshToken()).isTrue();
+        assertThat(refresh.tokenId()).isNotBlank();
+        assertThat(refresh.authorities()).isNull();
+        assertThat(refresh.expiresAt()).isAfter(access.expiresAt());
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = tokenProvider.generateToken("testuser");
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        // When
+        VerifiedToken verified = tokenProvider.verifyToken(tampered);
+
+        // Then
+        assertThat(verified).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject expired, empty and malformed tokens")
+    void shouldRejectExpiredEmptyAndMalformedTokens() {
+        // Given
+        String expired = tokenProvider(-1_000L).generateToken("testuser");
+
+        // When & Then
+        assertThat(tokenProvider.verifyToken(expired)).isNull();
+        assertThat(tokenProvider.verifyToken("")).isNull();
+        assertThat(tokenProvider.verifyToken("not-a-jwt")).isNull();
+    }
+
+    private JwtTokenProvider tokenProvider(long expiration) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 7 * 86_400_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaximumSize", 100L);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fazpay.vehicle.core.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da autenticação JWT por requisição: o caminho antigo (parser novo e
+ * verificação em dobro), uma única verificação e o token já verificado em cache.
+ * Executar com: mvn -B test -Pbenchmark -DskipTests -Dbenchmark=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationWithAtLeast256BitsLength123456";
+
+    private JwtTokenProvider tokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaximumSize", 10_000L);
+        tokenProvider.init();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = tokenProvider.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String doubleParseWithNewParsers() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerification() {
+        return tokenProvider.verifyToken(token);
+    }
+}
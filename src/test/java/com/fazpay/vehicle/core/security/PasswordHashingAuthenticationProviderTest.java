@@ -0,0 +1,120 @@
+package com.fazpay.vehicle.core.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Password Hashing Authentication Provider Tests")
+class PasswordHashingAuthenticationProviderTest {
+
+    private final List<String> hashingThreads = Collections.synchronizedList(new ArrayList<>());
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private PasswordHashingExecutor passwordHasher;
+    private PasswordHashingAuthenticationProvider provider;
+    private String hash;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder encoder = new ThreadRecordingEncoder(new BCryptPasswordEncoder(4));
+        hash = encoder.encode("senha123");
+        passwordHasher = new PasswordHashingExecutor(encoder, 1, 4, Duration.ofSeconds(5));
+        provider = new PasswordHashingAuthenticationProvider(userDetailsService, passwordHasher);
+        hashingThreads.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should authenticate with the hash computed on the bounded executor")
+    void shouldAuthenticateOnHashingExecutor() {
+        // Given
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(user().build());
+
+        // When
+        Authentication authentication = provider.authenticate(new UsernamePasswordAuthenticationToken("admin", "senha123"));
+
+        // Then
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("admin");
+        assertThat(hashingThreads).isNotEmpty().allMatch(name -> name.startsWith("password-hashing-"));
+    }
+
+    @Test
+    @DisplayName("Should reject wrong passwords and unknown users with the same error")
+    void shouldRejectWrongPasswordAndUnknownUser() {
+        // Given
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(user().build());
+        when(userDetailsService.loadUserByUsername("ghost")).thenThrow(new UsernameNotFoundException("ghost"));
+
+        // When & Then
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("admin", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("ghost", "senha123")))
+                .isInstanceOf(BadCredentialsException.class);
+        // Usuário inexistente também passa pelo hash, no mesmo pool
+        assertThat(hashingThreads).hasSizeGreaterThanOrEqualTo(2).allMatch(name -> name.startsWith("password-hashing-"));
+    }
+
+    @Test
+    @DisplayName("Should reject disabled and locked accounts even with the right password")
+    void shouldRejectDisabledAndLockedAccounts() {
+        // Given
+        when(userDetailsService.loadUserByUsername("disabled")).thenReturn(user().username("disabled").disabled(true).build());
+        when(userDetailsService.loadUserByUsername("locked")).thenReturn(user().username("locked").accountLocked(true).build());
+
+        // When & Then
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("disabled", "senha123")))
+                .isInstanceOf(DisabledException.class);
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("locked", "senha123")))
+                .isInstanceOf(LockedException.class);
+    }
+
+    private User.UserBuilder user() {
+        return User.withUsername("admin").password(hash).authorities("ROLE_USER");
+    }
+
+    private class ThreadRecordingEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+
+        ThreadRecordingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashingThreads.add(Thread.currentThread().getName());
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashingThreads.add(Thread.currentThread().getName());
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.core.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Password Hashing Executor Tests")
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger started = new AtomicInteger();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should match passwords and never match an unknown user")
+    void shouldMatchPasswordsAndNeverMatchUnknownUser() {
+        // Given
+        release.countDown();
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 4, Duration.ofSeconds(5));
+
+        // When & Then
+        assertThat(executor.matches("secret", "encoded:secret")).isTrue();
+        assertThat(executor.matches("wrong", "encoded:secret")).isFalse();
+        assertThat(executor.matches("secret", null)).isFalse();
+        assertThat(executor.encode("secret")).isEqualTo("encoded:secret");
+    }
+
+    @Test
+    @DisplayName("Should fail fast when every hashing thread and queue slot is taken")
+    void shouldFailFastWhenSaturated() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.matches("a", "encoded:a"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.matches("b", "encoded:b"));
+        waitUntilQueued();
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.matches("c", "encoded:c"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(1L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give up when hashing does not finish within the timeout")
+    void shouldGiveUpAfterTimeout() {
+        // Given
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), 1, 4, Duration.ofMillis(50));
+
+        // When & Then
+        assertThatThrownBy(() -> executor.matches("a", "encoded:a"))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100 && started.get() < 1; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+    }
+
+    // Encoder falso: encode é imediato, matches espera o latch do teste
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
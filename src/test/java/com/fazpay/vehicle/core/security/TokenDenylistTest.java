@@ -0,0 +1,157 @@
+package com.fazpay.vehicle.core.security;
+
+import com.fazpay.vehicle.core.security.model.RevokedToken;
+import com.fazpay.vehicle.core.security.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Denylist Tests")
+class TokenDenylistTest {
+
+    @Mock
+    private RevokedTokenRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findMaxId()).thenReturn(0L);
+        when(repository.findActiveTokenIds(any())).thenReturn(List.of("revoked-at-startup"));
+        denylist = new TokenDenylist(repository, transactionManager, 1_000, 0.01, Duration.ofSeconds(30));
+        denylist.init();
+    }
+
+    @Test
+    @DisplayName("Should answer unknown token ids from the Bloom filter without querying the database")
+    void shouldNotQueryDatabaseForUnknownTokenIds() {
+        // When
+        boolean revoked = denylist.isRevoked("never-revoked");
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(repository, never()).existsByTokenId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should confirm tokens loaded at startup with a single exact lookup")
+    void shouldConfirmTokensLoadedAtStartup() {
+        // Given
+        when(repository.existsByTokenId("revoked-at-startup")).thenReturn(true);
+
+        // When
+        boolean first = denylist.isRevoked("revoked-at-startup");
+        boolean second = denylist.isRevoked("revoked-at-startup");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(repository, times(1)).existsByTokenId("revoked-at-startup");
+    }
+
+    @Test
+    @DisplayName("Should persist a revocation and reject the token immediately")
+    void shouldPersistRevocationAndRejectToken() {
+        // Given
+        VerifiedToken token = new VerifiedToken("admin", TokenType.ACCESS, "new-token", List.of("ROLE_USER"),
+                Instant.now().plusSeconds(60));
+
+        // When
+        boolean revoked = denylist.revoke(token);
+
+        // Then
+        assertThat(revoked).isTrue();
+        assertThat(denylist.isRevoked("new-token")).isTrue();
+        verify(repository).saveAndFlush(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("Should report a token revoked by an earlier call as not revoked by this one")
+    void shouldReportDuplicateRevocation() {
+        // Given
+        VerifiedToken token = new VerifiedToken("admin", TokenType.REFRESH, "used-token", null,
+                Instant.now().plusSeconds(60));
+        when(repository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'used-token'"));
+
+        // When
+        boolean revoked = denylist.revoke(token);
+
+        // Then
+        assertThat(revoked).isFalse();
+        assertThat(denylist.isRevoked("used-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations made by other nodes")
+    void shouldPickUpRemoteRevocations() {
+        // Given
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of(
+                RevokedToken.builder().id(1L).tokenId("remote-token").username("admin").build()));
+
+        // When
+        denylist.syncRemoteRevocations();
+
+        // Then
+        assertThat(denylist.isRevoked("remote-token")).isTrue();
+        verify(repository, never()).existsByTokenId("remote-token");
+    }
+
+    @Test
+    @DisplayName("Should pick up a lower-id revocation that commits after higher ids were read")
+    void shouldPickUpRevocationCommittedLate() {
+        // Given
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(
+                RevokedToken.builder().id(600L).tokenId("fast-token").username("admin").build()));
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(600L)).thenReturn(List.of());
+        denylist.syncRemoteRevocations();
+        when(repository.findByIdInOrderByIdAsc(anyCollection())).thenReturn(List.of(
+                RevokedToken.builder().id(1L).tokenId("late-token").username("admin").build()));
+
+        // When
+        denylist.syncRemoteRevocations();
+
+        // Then
+        assertThat(denylist.isRevoked("late-token")).isTrue();
+        verify(repository, never()).existsByTokenId("late-token");
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens without a token id")
+    void shouldIgnoreTokensWithoutId() {
+        // Given
+        VerifiedToken legacyToken = new VerifiedToken("admin", TokenType.ACCESS, null, null,
+                Instant.now().plusSeconds(60));
+
+        // When
+        boolean revoked = denylist.revoke(legacyToken);
+
+        // Then
+        assertThat(revoked).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+        verify(repository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.fazpay.vehicle.core.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JSON Stream Writer Tests")
+class JsonStreamWriterTest {
+
+    private final JsonStreamWriter writer = new JsonStreamWriter(new ObjectMapper(), 1, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Should write a JSON array by default")
+    void shouldWriteJsonArrayByDefault() throws IOException {
+        // When
+        ResponseEntity<StreamingResponseBody> response = writer.stream(new HttpHeaders(), items("ABC1234", "XYZ5678"));
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(body(response)).isEqualTo("[{\"placa\":\"ABC1234\"},{\"placa\":\"XYZ5678\"}]");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line when NDJSON is accepted")
+    void shouldWriteNdjsonWhenAccepted() throws IOException {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = writer.stream(headers, items("ABC1234", "XYZ5678"));
+
+        // Then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(body(response)).isEqualTo("{\"placa\":\"ABC1234\"}\n{\"placa\":\"XYZ5678\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should write an empty array when there are no items")
+    void shouldWriteEmptyArrayWhenThereAreNoItems() throws IOException {
+        // When
+        ResponseEntity<StreamingResponseBody> response = writer.stream(new HttpHeaders(), items());
+
+        // Then
+        assertThat(body(response)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should stop reading the source when the client goes away")
+    void shouldStopReadingSourceWhenClientGoesAway() {
+        // Given
+        int[] produced = {0};
+        Consumer<Consumer<Map<String, String>>> source = action -> {
+            for (int i = 0; i < 100_000; i++) {
+                produced[0]++;
+                action.accept(Map.of("placa", "ABC1234"));
+            }
+        };
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> writer.stream(new HttpHeaders(), source).getBody().writeTo(closed))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(produced[0]).isLessThan(100_000);
+    }
+
+    @Test
+    @DisplayName("Should refuse a new export while the limit is in use and accept it once one finishes")
+    void shouldRefuseExportsPastConcurrencyLimit() throws IOException {
+        // Given
+        ResponseEntity<StreamingResponseBody> running = writer.stream(new HttpHeaders(), items("ABC1234"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.stream(new HttpHeaders(), items("XYZ5678")))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        body(running);
+        assertThat(body(writer.stream(new HttpHeaders(), items("XYZ5678")))).isEqualTo("[{\"placa\":\"XYZ5678\"}]");
+    }
+
+    @Test
+    @DisplayName("Should abort an export that runs past the timeout and free its slot")
+    void shouldAbortExportPastTimeout() throws IOException {
+        // Given
+        JsonStreamWriter expired = new JsonStreamWriter(new ObjectMapper(), 1, Duration.ZERO);
+
+        // When & Then
+        assertThatThrownBy(() -> body(expired.stream(new HttpHeaders(), items("ABC1234"))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("exceeded");
+        assertThatThrownBy(() -> body(expired.stream(new HttpHeaders(), items("ABC1234"))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("exceeded");
+    }
+
+    private static Consumer<Consumer<Map<String, String>>> items(String... placas) {
+        return action -> {
+            for (String placa : placas) {
+                action.accept(Map.of("placa", placa));
+            }
+        };
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
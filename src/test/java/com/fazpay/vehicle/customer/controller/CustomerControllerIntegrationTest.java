@@ -20,8 +20,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -97,7 +103,9 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.nome").value("Maria Santos"))
                 .andExpect(jsonPath("$.cpf").value("52998224725"))
                 .andExpect(jsonPath("$.email").value("maria@example.com"))
-                .andExpect(jsonPath("$.id").exists());
+                .andExpect(jsonPath("$.id").exists())
+                // UUIDv7: versão 7 e variante RFC
+                .andExpect(jsonPath("$.id").value(matchesPattern("[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}")));
     }
 
     @Test
@@ -117,6 +125,53 @@ class CustomerControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should create all customers of a valid batch")
+    void shouldCreateAllCustomersOfValidBatch() throws Exception {
+        List<CustomerRequest> requests = List.of(
+                customerRequest("52998224725", "maria@example.com"),
+                customerRequest("39053344705", "ana@example.com"));
+
+        mockMvc.perform(post("/api/v1/clientes/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.items[0].data.cpf").value("52998224725"))
+                .andExpect(jsonPath("$.items[1].data.email").value("ana@example.com"));
+
+        assertThat(customerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report per-item errors and create the valid customers of a mixed batch")
+    void shouldReportPerItemErrorsForMixedBatch() throws Exception {
+        List<CustomerRequest> requests = List.of(
+                customerRequest("52998224725", "maria@example.com"),
+                customerRequest("11144477735", "outro@example.com"),
+                customerRequest("39053344705", "JOAO@example.com"),
+                customerRequest("52998224725", "maria2@example.com"),
+                customerRequest("15350946056", "Maria@Example.com"),
+                customerRequest("11111111111", "invalido@example.com"));
+
+        mockMvc.perform(post("/api/v1/clientes/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[1].errors[0]").value(containsString("11144477735")))
+                .andExpect(jsonPath("$.items[2].errors[0]").value(containsString("JOAO@example.com")))
+                .andExpect(jsonPath("$.items[3].errors[0]").value(containsString("Duplicate cpf")))
+                .andExpect(jsonPath("$.items[4].errors[0]").value(containsString("Duplicate email")))
+                .andExpect(jsonPath("$.items[5].errors[0]").value(startsWith("cpf")));
+
+        assertThat(customerRepository.count()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("Should list customers with pagination")
     void shouldListCustomersWithPagination() throws Exception {
@@ -130,6 +185,45 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].nome").exists());
     }
 
+    @Test
+    @DisplayName("Should page filtered customers in cpf order with cursor pagination")
+    void shouldPageCustomersWithCursorPagination() throws Exception {
+        customerRepository.save(customer("Maria Santos", "52998224725", "maria@example.com"));
+        customerRepository.save(customer("Maria Souza", "39053344705", "souza@example.com"));
+        customerRepository.save(customer("Ana Lima", "15350946056", "ana@example.com"));
+
+        String body = mockMvc.perform(get("/api/v1/clientes")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("after", "")
+                        .param("nome", "maria")
+                        .param("sort", "cpf")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].cpf").value("39053344705"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/clientes")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("after", nextCursor)
+                        .param("nome", "maria")
+                        .param("sort", "cpf")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].cpf").value("52998224725"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // O cursor foi gerado para cpf e não vale para outra ordenação
+        mockMvc.perform(get("/api/v1/clientes")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("after", nextCursor)
+                        .param("sort", "email"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get customer by ID")
     void shouldGetCustomerById() throws Exception {
@@ -155,5 +249,22 @@ class CustomerControllerIntegrationTest {
         mockMvc.perform(get("/api/v1/clientes"))
                 .andExpect(status().isForbidden());
     }
-}
 
+    private Customer customer(String nome, String cpf, String email) {
+        return Customer.builder()
+                .nome(nome)
+                .cpf(cpf)
+                .email(email)
+                .telefone("(21) 99999-8888")
+                .build();
+    }
+
+    private CustomerRequest customerRequest(String cpf, String email) {
+        return CustomerRequest.builder()
+                .nome("Maria Santos")
+                .cpf(cpf)
+                .email(email)
+                .telefone("(21) 99999-8888")
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.fazpay.vehicle.customer.service;
 
+import com.fazpay.vehicle.core.cache.CacheInvalidator;
 import com.fazpay.vehicle.core.exception.BusinessException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
 import com.fazpay.vehicle.customer.dto.CustomerPatchRequest;
@@ -15,14 +16,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,6 +41,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -86,29 +91,26 @@ class CustomerServiceTest {
     void shouldFindAllCustomersWithPagination() {
         // Given
         PageRequest pageable = PageRequest.of(0, 10);
-        List<Customer> customers = Arrays.asList(customer);
-        Page<Customer> customerPage = new PageImpl<>(customers, pageable, 1);
+        Slice<CustomerResponse> customerPage = new SliceImpl<>(List.of(customerResponse), pageable, false);
         
-        when(customerRepository.findWithFilters(null, null, pageable)).thenReturn(customerPage);
-        when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerResponse);
+        when(customerRepository.findResponsesWithFilters(null, null, pageable)).thenReturn(customerPage);
 
         // When
-        Page<CustomerResponse> result = customerService.findWithFilters(null, null, pageable);
+        Slice<CustomerResponse> result = customerService.findWithFilters(null, null, pageable);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getNome()).isEqualTo("João Silva");
-        verify(customerRepository).findWithFilters(null, null, pageable);
-        verify(customerMapper).toResponse(any(Customer.class));
+        verify(customerRepository).findResponsesWithFilters(null, null, pageable);
+        verifyNoInteractions(customerMapper);
     }
 
     @Test
     @DisplayName("Should find customer by ID")
     void shouldFindCustomerById() {
         // Given
-        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
-        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+        when(customerRepository.findResponseById(customerId)).thenReturn(Optional.of(customerResponse));
 
         // When
         CustomerResponse result = customerService.findById(customerId);
@@ -117,15 +119,15 @@ class CustomerServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(customerId);
         assertThat(result.getNome()).isEqualTo("João Silva");
-        verify(customerRepository).findById(customerId);
-        verify(customerMapper).toResponse(customer);
+        verify(customerRepository).findResponseById(customerId);
+        verifyNoInteractions(customerMapper);
     }
 
     @Test
     @DisplayName("Should throw ResourceNotFoundException when customer not found by ID")
     void shouldThrowExceptionWhenCustomerNotFoundById() {
         // Given
-        when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
+        when(customerRepository.findResponseById(customerId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> customerService.findById(customerId))
@@ -133,7 +135,7 @@ class CustomerServiceTest {
                 .hasMessageContaining("Customer")
                 .hasMessageContaining(customerId.toString());
         
-        verify(customerRepository).findById(customerId);
+        verify(customerRepository).findResponseById(customerId);
     }
 
     @Test
@@ -256,22 +258,23 @@ class CustomerServiceTest {
     }
 
     @Test
-    @DisplayName("Should find all customers without pagination")
-    void shouldFindAllCustomersWithoutPagination() {
+    @DisplayName("Should stream all customers and close the cursor")
+    void shouldStreamAllCustomersAndCloseCursor() {
         // Given
-        List<Customer> customers = Arrays.asList(customer);
-        when(customerRepository.findAllByDeletedAtIsNull()).thenReturn(customers);
-        when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerResponse);
+        boolean[] closed = {false};
+        when(customerRepository.streamAllResponses())
+                .thenReturn(Stream.of(customerResponse).onClose(() -> closed[0] = true));
+        List<CustomerResponse> result = new ArrayList<>();
 
         // When
-        List<CustomerResponse> result = customerService.findAll();
+        customerService.streamAll(result::add);
 
         // Then
-        assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getNome()).isEqualTo("João Silva");
-        verify(customerRepository).findAllByDeletedAtIsNull();
-        verify(customerMapper).toResponse(any(Customer.class));
+        assertThat(closed[0]).isTrue();
+        verify(customerRepository).streamAllResponses();
+        verifyNoInteractions(customerMapper);
     }
 }
 
@@ -1,5 +1,6 @@
 package com.fazpay.vehicle.vehicle.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fazpay.vehicle.core.security.JwtTokenProvider;
 import com.fazpay.vehicle.customer.model.Customer;
@@ -22,8 +23,15 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -140,6 +148,67 @@ class VehicleControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should create all vehicles of a valid batch")
+    void shouldCreateAllVehiclesOfValidBatch() throws Exception {
+        List<VehicleRequest> requests = List.of(
+                vehicleRequest("XYZ5678", testCustomer.getId()),
+                vehicleRequest("DEF4G56", testCustomer.getId()));
+
+        mockMvc.perform(post("/api/v1/veiculos/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].data.placa").value("XYZ5678"))
+                .andExpect(jsonPath("$.items[1].data.id").exists());
+
+        assertThat(vehicleRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report per-item errors and create the valid vehicles of a mixed batch")
+    void shouldReportPerItemErrorsForMixedBatch() throws Exception {
+        List<VehicleRequest> requests = List.of(
+                vehicleRequest("XYZ5678", testCustomer.getId()),
+                vehicleRequest("ABC1234", testCustomer.getId()),
+                vehicleRequest("xyz5678", testCustomer.getId()),
+                vehicleRequest("DEF4G56", UUID.randomUUID()),
+                vehicleRequest("INVALID", testCustomer.getId()));
+
+        mockMvc.perform(post("/api/v1/veiculos/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.items[1].errors[0]").value(containsString("ABC1234")))
+                .andExpect(jsonPath("$.items[2].errors[0]").value(containsString("Duplicate")))
+                .andExpect(jsonPath("$.items[3].errors", hasSize(1)))
+                .andExpect(jsonPath("$.items[4].errors[0]").value(startsWith("placa")))
+                .andExpect(jsonPath("$.items[4].data").doesNotExist());
+
+        assertThat(vehicleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/veiculos/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should list vehicles with pagination")
     void shouldListVehiclesWithPagination() throws Exception {
@@ -153,6 +222,95 @@ class VehicleControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].placa").exists());
     }
 
+    @Test
+    @DisplayName("Should list vehicles without a total when count is none")
+    void shouldListVehiclesWithoutTotalWhenCountIsNone() throws Exception {
+        vehicleRepository.save(Vehicle.builder()
+                .placa("DEF4G56")
+                .marca("Honda")
+                .modelo("Civic")
+                .ano(2022)
+                .cor("Preto")
+                .customer(testCustomer)
+                .build());
+
+        mockMvc.perform(get("/api/v1/veiculos")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("size", "1")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/veiculos")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("size", "1")
+                        .param("count", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.totalExact").value(true));
+
+        mockMvc.perform(get("/api/v1/veiculos")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("count", "all"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should walk every vehicle in placa order with cursor pagination")
+    void shouldWalkVehiclesWithCursorPagination() throws Exception {
+        for (String placa : List.of("DEF4G56", "AAA1111", "ZZZ9999", "BCD2345")) {
+            vehicleRepository.save(Vehicle.builder()
+                    .placa(placa)
+                    .marca("Honda")
+                    .modelo("Civic")
+                    .ano(2022)
+                    .cor("Preto")
+                    .customer(testCustomer)
+                    .build());
+        }
+
+        List<String> placas = new ArrayList<>();
+        String after = "";
+        int pages = 0;
+        do {
+            String body = mockMvc.perform(get("/api/v1/veiculos")
+                            .header("Authorization", "Bearer " + jwtToken)
+                            .param("after", after)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.sort").value("placa"))
+                    .andExpect(jsonPath("$.content[0].clienteNome").value("João Silva"))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(vehicle -> placas.add(vehicle.get("placa").asText()));
+            after = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (after != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(placas).containsExactly("AAA1111", "ABC1234", "BCD2345", "DEF4G56", "ZZZ9999");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for cursor pagination on a non-indexed sort field or with an invalid cursor")
+    void shouldReturn400ForInvalidCursorPagination() throws Exception {
+        mockMvc.perform(get("/api/v1/veiculos")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("after", "")
+                        .param("sort", "marca"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("createdAt, placa")));
+
+        mockMvc.perform(get("/api/v1/veiculos")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .param("after", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get vehicle by ID")
     void shouldGetVehicleById() throws Exception {
@@ -188,5 +346,15 @@ class VehicleControllerIntegrationTest {
         mockMvc.perform(get("/api/v1/veiculos"))
                 .andExpect(status().isForbidden());
     }
-}
 
+    private VehicleRequest vehicleRequest(String placa, UUID clienteId) {
+        return VehicleRequest.builder()
+                .placa(placa)
+                .marca("Honda")
+                .modelo("Civic")
+                .ano(2022)
+                .cor("Preto")
+                .clienteId(clienteId)
+                .build();
+    }
+}
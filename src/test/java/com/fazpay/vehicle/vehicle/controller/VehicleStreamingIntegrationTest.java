@@ -0,0 +1,147 @@
+package com.fazpay.vehicle.vehicle.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fazpay.vehicle.core.security.JwtTokenProvider;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import com.fazpay.vehicle.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Sem @Transactional: o corpo é escrito em outra thread, numa transação própria
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Vehicle Streaming Integration Tests")
+class VehicleStreamingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        jwtToken = "Bearer " + tokenProvider.generateToken("streamuser");
+
+        Customer customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Stream")
+                .cpf("52998224725")
+                .email("stream@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (String placa : List.of("STR1234", "STR5678", "STR9012")) {
+            vehicles.add(Vehicle.builder()
+                    .placa(placa)
+                    .marca("Toyota")
+                    .modelo("Corolla")
+                    .ano(2023)
+                    .cor("Prata")
+                    .customer(customer)
+                    .build());
+        }
+        vehicleRepository.saveAll(vehicles);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+    }
+
+    @Test
+    @DisplayName("Should stream all vehicles as a JSON array by default")
+    void shouldStreamAllVehiclesAsJsonArray() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", jwtToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].placa", containsInAnyOrder("STR1234", "STR5678", "STR9012")))
+                .andExpect(jsonPath("$[0].clienteNome").value("Cliente Stream"));
+    }
+
+    @Test
+    @DisplayName("Should stream all vehicles as NDJSON when requested")
+    void shouldStreamAllVehiclesAsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/veiculos/all")
+                        .header("Authorization", jwtToken)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        for (String line : lines) {
+            JsonNode vehicle = objectMapper.readTree(line);
+            assertThat(vehicle.get("placa").asText()).startsWith("STR");
+            assertThat(vehicle.get("clienteNome").asText()).isEqualTo("Cliente Stream");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not stream soft deleted vehicles")
+    void shouldNotStreamSoftDeletedVehicles() throws Exception {
+        jdbcTemplate.update("UPDATE veiculos SET deleted_at = CURRENT_TIMESTAMP WHERE placa = 'STR1234'");
+
+        MvcResult started = mockMvc.perform(get("/api/v1/veiculos/all").header("Authorization", jwtToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].placa", containsInAnyOrder("STR5678", "STR9012")));
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+}
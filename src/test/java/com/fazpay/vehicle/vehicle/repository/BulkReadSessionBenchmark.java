@@ -0,0 +1,157 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.OmnichainVehicleApiApplication;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.mapper.VehicleMapper;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Leitura de 10 mil veículos com o cliente, mapeados para VehicleResponse, em
+ * sessão comum (transação de escrita), sessão read-only (readOnly = true, que o
+ * Spring traduz em setDefaultReadOnly e FlushMode.MANUAL), StatelessSession e
+ * pela projeção em cursor usada em /all. Ao fim de cada iteração, imprime bytes
+ * alocados e coletas de GC por operação e quantas entidades ficaram no contexto
+ * de persistência até o fim da transação.
+ * Executar com: mvn -B test -Pbenchmark -DskipTests -Dbenchmark=BulkReadSessionBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+public class BulkReadSessionBenchmark {
+
+    private static final int CUSTOMERS = 1_000;
+    private static final int VEHICLES = 10_000;
+
+    private static final String ENTITIES = "SELECT v FROM Vehicle v LEFT JOIN FETCH v.customer WHERE v.deletedAt IS NULL";
+
+    @Param({"STATEFUL", "READ_ONLY", "STATELESS", "PROJECTION"})
+    public String session;
+
+    private ConfigurableApplicationContext context;
+    private VehicleRepository vehicleRepository;
+    private VehicleMapper vehicleMapper;
+    private EntityManager entityManager;
+    private SessionFactory sessionFactory;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private com.sun.management.ThreadMXBean threads;
+    private long operations;
+    private long managedEntities;
+    private long allocatedBefore;
+    private long collectionsBefore;
+    private long collectionTimeBefore;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OmnichainVehicleApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        vehicleRepository = context.getBean(VehicleRepository.class);
+        vehicleMapper = context.getBean(VehicleMapper.class);
+        entityManager = context.getBean(EntityManager.class);
+        sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        VehicleBenchmarkData.seed(context, CUSTOMERS, VEHICLES);
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounting() {
+        operations = 0;
+        managedEntities = 0;
+        allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        collectionsBefore = collections();
+        collectionTimeBefore = collectionTime();
+    }
+
+    @Benchmark
+    public void readAll(Blackhole blackhole) {
+        operations++;
+        switch (session) {
+            case "STATEFUL" -> readWrite.executeWithoutResult(status -> readEntities(blackhole));
+            case "READ_ONLY" -> readOnly.executeWithoutResult(status -> readEntities(blackhole));
+            case "STATELESS" -> {
+                try (StatelessSession stateless = sessionFactory.openStatelessSession()) {
+                    stateless.createQuery(ENTITIES, Vehicle.class).getResultList()
+                            .forEach(vehicle -> blackhole.consume(vehicleMapper.toResponse(vehicle)));
+                }
+            }
+            default -> readOnly.executeWithoutResult(status -> {
+                try (Stream<VehicleResponse> vehicles = vehicleRepository.streamAllResponses()) {
+                    vehicles.forEach(blackhole::consume);
+                }
+            });
+        }
+    }
+
+    private void readEntities(Blackhole blackhole) {
+        List<Vehicle> vehicles = entityManager.createQuery(ENTITIES, Vehicle.class).getResultList();
+        vehicles.forEach(vehicle -> blackhole.consume(vehicleMapper.toResponse(vehicle)));
+        managedEntities += entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        System.out.printf("%n%s: %.1f MB allocated/op, %.2f GCs/op (%.1f ms/op), %d managed entities/op%n", session,
+                allocated / 1_048_576.0 / operations,
+                (double) (collections() - collectionsBefore) / operations,
+                (double) (collectionTime() - collectionTimeBefore) / operations,
+                managedEntities / operations);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private static long collections() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long collectionTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
@@ -0,0 +1,58 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Massa de clientes e veículos válidos para os benchmarks de leitura
+final class VehicleBenchmarkData {
+
+    private VehicleBenchmarkData() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static List<UUID> seed(ApplicationContext context, int customerCount, int vehicleCount) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            customers.add(Customer.builder()
+                    .nome("Cliente " + i)
+                    .cpf(cpf(100_000_000 + i))
+                    .email("cliente" + i + "@example.com")
+                    .telefone("(11) 98765-4321")
+                    .build());
+        }
+        customers = context.getBean(CustomerRepository.class).saveAll(customers);
+
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < vehicleCount; i++) {
+            vehicles.add(Vehicle.builder()
+                    .placa(String.format("BEN%04d", i))
+                    .marca("Toyota")
+                    .modelo("Corolla")
+                    .ano(2023)
+                    .cor("Prata")
+                    .customer(customers.get(i % customerCount))
+                    .build());
+        }
+        return context.getBean(VehicleRepository.class).saveAll(vehicles).stream().map(Vehicle::getId).toList();
+    }
+
+    // CPF válido a partir dos 9 primeiros dígitos
+    private static String cpf(int base) {
+        String digits = String.valueOf(base);
+        for (int length = 9; length < 11; length++) {
+            int sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += (digits.charAt(i) - '0') * (length + 1 - i);
+            }
+            int check = 11 - sum % 11;
+            digits += check >= 10 ? 0 : check;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.OmnichainVehicleApiApplication;
+import com.fazpay.vehicle.core.persistence.SqlStatementCounter;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.mapper.VehicleMapper;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leituras de veículo pelo caminho antigo (entidade com o cliente e VehicleMapper)
+ * e pelas projeções em VehicleResponse, direto no repositório, sem o cache. As
+ * páginas ficam nas primeiras posições, para o OFFSET não dominar a medida. Ao fim
+ * de cada iteração, imprime os comandos SQL e os bytes alocados por operação.
+ * Roda em H2 em memória, então vale a comparação relativa, não os números absolutos.
+ * Executar com: mvn -B test -Pbenchmark -DskipTests -Dbenchmark=VehicleReadPathBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VehicleReadPathBenchmark {
+
+    private static final int CUSTOMERS = 1_000;
+    private static final int VEHICLES = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 10;
+
+    @Param({"ENTITY", "PROJECTION"})
+    public String readPath;
+
+    private ConfigurableApplicationContext context;
+    private VehicleRepository vehicleRepository;
+    private EntityReads entityReads;
+    private VehicleMapper vehicleMapper;
+    private TransactionTemplate readOnly;
+    private List<UUID> ids;
+    private com.sun.management.ThreadMXBean threads;
+    private int next;
+    private long operations;
+    private long allocatedBefore;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OmnichainVehicleApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + SqlStatementCounter.class.getName())
+                .run();
+        vehicleRepository = context.getBean(VehicleRepository.class);
+        vehicleMapper = context.getBean(VehicleMapper.class);
+        entityReads = new JpaRepositoryFactory(context.getBean(EntityManager.class)).getRepository(EntityReads.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        ids = VehicleBenchmarkData.seed(context, CUSTOMERS, VEHICLES);
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounting() {
+        operations = 0;
+        SqlStatementCounter.reset();
+        allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    }
+
+    @Benchmark
+    public VehicleResponse findById() {
+        UUID id = ids.get(next++ % VEHICLES);
+        operations++;
+        return readOnly.execute(status -> "ENTITY".equals(readPath)
+                ? vehicleRepository.findById(id).map(vehicleMapper::toResponse).orElseThrow()
+                : vehicleRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<VehicleResponse> findPage() {
+        PageRequest pageable = PageRequest.of(next++ % PAGES, PAGE_SIZE, Sort.by("placa"));
+        operations++;
+        return readOnly.execute(status -> "ENTITY".equals(readPath)
+                ? entityReads.findWithFilters(null, null, null, pageable).map(vehicleMapper::toResponse).getContent()
+                : vehicleRepository.findResponsesWithFilters(null, null, null, pageable).getContent());
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        System.out.printf("%n%s: %.2f statements/op, %.0f bytes allocated/op%n", readPath,
+                (double) SqlStatementCounter.count() / operations, (double) allocated / operations);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Consulta de findWithFilters antes das projeções
+    interface EntityReads extends Repository<Vehicle, UUID> {
+
+        @Query("SELECT v FROM Vehicle v LEFT JOIN FETCH v.customer WHERE " + VehicleRepository.FILTERS)
+        // Nomes dos parâmetros vindos de -parameters, sem @Param (conflita com o da JMH)
+        Slice<Vehicle> findWithFilters(String marca, String modelo, String cor, Pageable pageable);
+    }
+}
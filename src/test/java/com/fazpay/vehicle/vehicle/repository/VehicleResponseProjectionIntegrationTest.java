@@ -0,0 +1,131 @@
+package com.fazpay.vehicle.vehicle.repository;
+
+import com.fazpay.vehicle.core.persistence.SqlStatementCounter;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import com.fazpay.vehicle.vehicle.model.Vehicle;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.fazpay.vehicle.core.persistence.SqlStatementCounter")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Vehicle Response Projection Integration Tests")
+class VehicleResponseProjectionIntegrationTest {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Projecao")
+                .cpf("52998224725")
+                .email("projecao@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+        vehicle = vehicleRepository.save(vehicle("PRJ1234", customer));
+        vehicleRepository.save(vehicle("PRJ5678", customer));
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("Should read a vehicle and its customer name in a single statement without loading entities")
+    void shouldReadVehicleByIdInSingleStatement() {
+        // When
+        Optional<VehicleResponse> result = vehicleRepository.findResponseById(vehicle.getId());
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getPlaca()).isEqualTo("PRJ1234");
+        assertThat(result.get().getClienteId()).isEqualTo(vehicle.getCustomer().getId());
+        assertThat(result.get().getClienteNome()).isEqualTo("Cliente Projecao");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read a filtered page in a single statement without loading entities")
+    void shouldReadFilteredPageInSingleStatement() {
+        // When
+        Slice<VehicleResponse> result = vehicleRepository.findResponsesWithFilters(
+                "toyota", null, null, PageRequest.of(0, 10, Sort.by("placa")));
+
+        // Then
+        assertThat(result.getContent()).extracting(VehicleResponse::getPlaca).containsExactly("PRJ1234", "PRJ5678");
+        assertThat(result.getContent()).extracting(VehicleResponse::getClienteNome).containsOnly("Cliente Projecao");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read a specification query in a single statement without loading entities")
+    void shouldReadSpecificationQueryInSingleStatement() {
+        // When
+        List<VehicleResponse> result = vehicleRepository.findResponses(
+                VehicleSpecifications.withFilters(null, "corolla", null), 10);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(VehicleResponse::getClienteNome).containsOnly("Cliente Projecao");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not return soft deleted vehicles")
+    void shouldNotReturnSoftDeletedVehicles() {
+        // Given
+        vehicleRepository.delete(vehicleRepository.findById(vehicle.getId()).orElseThrow());
+        entityManager.flush();
+
+        // When
+        Optional<VehicleResponse> result = vehicleRepository.findResponseById(vehicle.getId());
+
+        // Then
+        assertThat(result).isEmpty();
+        try (Stream<VehicleResponse> all = vehicleRepository.streamAllResponses()) {
+            assertThat(all).extracting(VehicleResponse::getPlaca).containsExactly("PRJ5678");
+        }
+    }
+
+    private Vehicle vehicle(String placa, Customer customer) {
+        return Vehicle.builder()
+                .placa(placa)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .customer(customer)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Vehicle Cache Concurrency Tests")
+class VehicleCacheConcurrencyTest {
+
+    private static final int ITERATIONS = 40;
+    private static final int READERS = 4;
+
+    @Autowired
+    private IVehicleService vehicleService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache vehiclesCache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        vehiclesCache = cacheManager.getCache(CacheNames.VEHICLES);
+        vehiclesCache.clear();
+        executor = Executors.newFixedThreadPool(READERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        cleanDatabase();
+        vehiclesCache.clear();
+    }
+
+    @Test
+    @DisplayName("Should never keep a stale vehicle cached after an update commits")
+    void shouldNeverKeepStaleVehicleCachedAfterCommit() throws Exception {
+        // Given
+        Customer customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Concorrente")
+                .cpf("39053344705")
+                .email("concorrente@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+        VehicleResponse vehicle = vehicleService.create(VehicleRequest.builder()
+                .placa("STR1234")
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Cor0")
+                .clienteId(customer.getId())
+                .build());
+
+        for (int i = 1; i <= ITERATIONS; i++) {
+            // When
+            AtomicBoolean running = new AtomicBoolean(true);
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < READERS; r++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        vehicleService.findById(vehicle.getId());
+                    }
+                }));
+            }
+
+            String expectedCor = "Cor" + i;
+            vehicleService.partialUpdate(vehicle.getId(), VehiclePatchRequest.builder().cor(expectedCor).build());
+
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+
+            // Then
+            Cache.ValueWrapper cached = vehiclesCache.get(vehicle.getId());
+            if (cached != null) {
+                assertThat(((VehicleResponse) cached.get()).getCor())
+                        .as("cached cor after commit %d", i)
+                        .isEqualTo(expectedCor);
+            }
+        }
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+}
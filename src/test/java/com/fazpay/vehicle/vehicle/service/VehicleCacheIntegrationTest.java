@@ -0,0 +1,261 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
+import com.fazpay.vehicle.customer.dto.CustomerPatchRequest;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.customer.service.ICustomerService;
+import com.fazpay.vehicle.vehicle.dto.VehiclePatchRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Vehicle Cache Integration Tests")
+class VehicleCacheIntegrationTest {
+
+    @Autowired
+    private IVehicleService vehicleService;
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache vehiclesCache;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        vehiclesCache = cacheManager.getCache(CacheNames.VEHICLES);
+        vehiclesCache.clear();
+
+        customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Cache")
+                .cpf("52998224725")
+                .email("cache@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+        vehiclesCache.clear();
+    }
+
+    @Test
+    @DisplayName("Should keep hot vehicle cached while unrelated vehicles are written")
+    void shouldKeepHotVehicleCachedWhileUnrelatedVehiclesAreWritten() {
+        // Given
+        VehicleResponse hot = vehicleService.create(vehicleRequest("HOT1234"));
+        VehicleResponse other = vehicleService.create(vehicleRequest("OTH1234"));
+        vehicleService.findById(hot.getId());
+        vehicleService.findByPlaca("HOT1234");
+        vehicleService.findById(other.getId());
+
+        // When
+        vehicleService.create(vehicleRequest("NEW1234"));
+        vehicleService.partialUpdate(other.getId(), VehiclePatchRequest.builder().placa("OTH5678").build());
+
+        // Then
+        assertThat(vehiclesCache.get(hot.getId())).isNotNull();
+        assertThat(vehiclesCache.get("placa_HOT1234")).isNotNull();
+        assertThat(vehiclesCache.get(other.getId())).isNull();
+        assertThat(vehicleService.findByPlaca("OTH5678").getId()).isEqualTo(other.getId());
+    }
+
+    @Test
+    @DisplayName("Should evict old and new plate keys of the written vehicle")
+    void shouldEvictOldAndNewPlateKeysOfWrittenVehicle() {
+        // Given
+        VehicleResponse vehicle = vehicleService.create(vehicleRequest("ABC1234"));
+        vehicleService.findByPlaca("ABC1234");
+
+        // When
+        vehicleService.partialUpdate(vehicle.getId(), VehiclePatchRequest.builder().placa("ABC9999").build());
+
+        // Then
+        assertThat(vehiclesCache.get("placa_ABC1234")).isNull();
+        assertThat(vehicleService.findByPlaca("ABC9999").getPlaca()).isEqualTo("ABC9999");
+    }
+
+    @Test
+    @DisplayName("Should evict mixed-case plate lookups after a plate change")
+    void shouldEvictMixedCasePlateLookupsAfterPlateChange() {
+        // Given
+        VehicleResponse vehicle = vehicleService.create(vehicleRequest("MIX1234"));
+        vehicleService.findByPlaca("MIX1234");
+        // No MySQL a busca ignora caixa; aqui (H2) só acha pelo cache, com a mesma chave em qualquer caixa
+        assertThat(vehicleService.findByPlaca("mix1234").getId()).isEqualTo(vehicle.getId());
+        assertThat(vehicleService.findByPlaca("Mix1234").getId()).isEqualTo(vehicle.getId());
+
+        // When
+        vehicleService.partialUpdate(vehicle.getId(), VehiclePatchRequest.builder().placa("MIX9999").build());
+
+        // Then
+        assertThat(vehiclesCache.get("placa_MIX1234")).isNull();
+        assertThatThrownBy(() -> vehicleService.findByPlaca("mix1234"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should not serve cached pages after a vehicle write")
+    void shouldNotServeCachedPagesAfterVehicleWrite() {
+        // Given
+        vehicleService.create(vehicleRequest("PAG1234"));
+        PageRequest pageable = PageRequest.of(0, 10);
+        assertThat(vehicleService.findAll(pageable).getTotalElements()).isEqualTo(1);
+
+        // When
+        vehicleService.create(vehicleRequest("PAG5678"));
+
+        // Then
+        assertThat(vehicleService.findAll(pageable).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not share cached pages between sort orders")
+    void shouldNotShareCachedPagesBetweenSortOrders() {
+        // Given
+        vehicleService.create(vehicleRequest("AAA1234"));
+        vehicleService.create(vehicleRequest("ZZZ1234"));
+
+        // When
+        Page<VehicleResponse> ascending = vehicleService.findAll(PageRequest.of(0, 10, Sort.by("placa")));
+        Page<VehicleResponse> descending = vehicleService.findAll(PageRequest.of(0, 10, Sort.by("placa").descending()));
+
+        // Then
+        assertThat(ascending.getContent().get(0).getPlaca()).isEqualTo("AAA1234");
+        assertThat(descending.getContent().get(0).getPlaca()).isEqualTo("ZZZ1234");
+    }
+
+    @Test
+    @DisplayName("Should serve equivalent filtered queries from the same cached page and refresh it after a write")
+    void shouldCacheFilteredPagesAndRefreshAfterWrite() {
+        // Given
+        vehicleService.create(vehicleRequest("FIL1234"));
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("placa"));
+        Slice<VehicleResponse> first = vehicleService.findWithFilters("Toyota", null, null, pageable);
+
+        // When
+        Slice<VehicleResponse> equivalent = vehicleService.findWithFilters(" toyota ", "", null, pageable);
+        vehicleService.create(vehicleRequest("FIL5678"));
+        Slice<VehicleResponse> afterWrite = vehicleService.findWithFilters("TOYOTA", null, null, pageable);
+
+        // Then
+        assertThat(equivalent).isSameAs(first);
+        assertThat(afterWrite.getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should cache the filtered count and refresh it after a write")
+    void shouldCacheFilteredCountAndRefreshAfterWrite() {
+        // Given
+        vehicleService.create(vehicleRequest("CNT1234"));
+        long first = vehicleService.countWithFilters("Toyota", null, null);
+
+        // When
+        vehicleService.create(vehicleRequest("CNT5678"));
+        long afterWrite = vehicleService.countWithFilters(" TOYOTA ", null, null);
+        // Escrita por fora do serviço: não invalida o cache
+        jdbcTemplate.update("UPDATE veiculos SET marca = 'Fiat'");
+        long cached = vehicleService.countWithFilters("Toyota", null, null);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(afterWrite).isEqualTo(2);
+        assertThat(cached).isEqualTo(2);
+        assertThat(vehicleService.countWithFiltersUpTo("fiat", null, null, 10)).isEqualTo(2);
+        assertThat(vehicleService.countWithFiltersUpTo("fiat", null, null, 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cache a plate miss and clear it when the vehicle is created")
+    void shouldCachePlateMissAndClearItOnCreate() {
+        // Given
+        Cache missesCache = cacheManager.getCache(CacheNames.VEHICLE_MISSES);
+        missesCache.clear();
+        assertThatThrownBy(() -> vehicleService.findByPlaca("NEG1234")).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(missesCache.get("placa_NEG1234")).isNotNull();
+
+        // When
+        vehicleService.create(vehicleRequest("NEG1234"));
+
+        // Then
+        assertThat(missesCache.get("placa_NEG1234")).isNull();
+        assertThat(vehicleService.findByPlaca("NEG1234").getPlaca()).isEqualTo("NEG1234");
+    }
+
+    @Test
+    @DisplayName("Should evict only the vehicles of a renamed customer")
+    void shouldEvictOnlyVehiclesOfRenamedCustomer() {
+        // Given
+        Customer otherCustomer = customerRepository.save(Customer.builder()
+                .nome("Outro Cliente")
+                .cpf("15350946056")
+                .email("outro@example.com")
+                .telefone("(21) 97654-3210")
+                .build());
+        VehicleResponse renamedOwnerVehicle = vehicleService.create(vehicleRequest("REN1234"));
+        VehicleResponse otherOwnerVehicle = vehicleService.create(vehicleRequest("OWN1234", otherCustomer));
+        vehicleService.findById(renamedOwnerVehicle.getId());
+        vehicleService.findByPlaca("REN1234");
+        vehicleService.findById(otherOwnerVehicle.getId());
+
+        // When
+        customerService.partialUpdate(customer.getId(), CustomerPatchRequest.builder().nome("Nome Novo").build());
+
+        // Then
+        assertThat(vehiclesCache.get(renamedOwnerVehicle.getId())).isNull();
+        assertThat(vehiclesCache.get("placa_REN1234")).isNull();
+        assertThat(vehiclesCache.get(otherOwnerVehicle.getId())).isNotNull();
+        assertThat(vehicleService.findById(renamedOwnerVehicle.getId()).getClienteNome()).isEqualTo("Nome Novo");
+    }
+
+    private VehicleRequest vehicleRequest(String placa) {
+        return vehicleRequest(placa, customer);
+    }
+
+    private VehicleRequest vehicleRequest(String placa, Customer owner) {
+        return VehicleRequest.builder()
+                .placa(placa)
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .clienteId(owner.getId())
+                .build();
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+}
@@ -0,0 +1,97 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.core.constants.CacheNames;
+import com.fazpay.vehicle.customer.model.Customer;
+import com.fazpay.vehicle.customer.repository.CustomerRepository;
+import com.fazpay.vehicle.vehicle.dto.VehicleRequest;
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.cache.specs.vehicles.expire-after-write=1h",
+        "app.cache.specs.vehicles.refresh-after-write=200ms"
+})
+@ActiveProfiles("test")
+@DisplayName("Vehicle Cache Refresh-Ahead Integration Tests")
+class VehicleCacheRefreshIntegrationTest {
+
+    @Autowired
+    private IVehicleService vehicleService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        cleanDatabase();
+        cacheManager.getCache(CacheNames.VEHICLES).clear();
+        customer = customerRepository.save(Customer.builder()
+                .nome("Cliente Refresh")
+                .cpf("39053344705")
+                .email("refresh@example.com")
+                .telefone("(11) 98765-4321")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanDatabase();
+        cacheManager.getCache(CacheNames.VEHICLES).clear();
+    }
+
+    @Test
+    @DisplayName("Should serve the cached vehicle and reload it in background once it is due for refresh")
+    void shouldServeCachedVehicleAndReloadInBackground() throws Exception {
+        // Given
+        VehicleResponse vehicle = vehicleService.create(VehicleRequest.builder()
+                .placa("RFS1234")
+                .marca("Toyota")
+                .modelo("Corolla")
+                .ano(2023)
+                .cor("Prata")
+                .clienteId(customer.getId())
+                .build());
+        vehicleService.findById(vehicle.getId());
+        // Alteração fora da aplicação: nenhuma invalidação é disparada
+        jdbcTemplate.update("UPDATE veiculos SET cor = 'Azul' WHERE placa = 'RFS1234'");
+        Thread.sleep(300);
+
+        // When
+        VehicleResponse served = vehicleService.findById(vehicle.getId());
+
+        // Then
+        assertThat(served.getCor()).isEqualTo("Prata");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"Azul".equals(vehicleService.findById(vehicle.getId()).getCor()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        VehicleResponse refreshed = vehicleService.findById(vehicle.getId());
+        assertThat(refreshed.getCor()).isEqualTo("Azul");
+        assertThat(refreshed.getClienteNome()).isEqualTo("Cliente Refresh");
+    }
+
+    private void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM veiculos");
+        jdbcTemplate.update("DELETE FROM clientes");
+    }
+}
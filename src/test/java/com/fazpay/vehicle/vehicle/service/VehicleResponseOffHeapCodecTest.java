@@ -0,0 +1,62 @@
+package com.fazpay.vehicle.vehicle.service;
+
+import com.fazpay.vehicle.vehicle.dto.VehicleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Vehicle Response Off-Heap Codec Tests")
+class VehicleResponseOffHeapCodecTest {
+
+    private final VehicleResponseOffHeapCodec codec = new VehicleResponseOffHeapCodec();
+
+    @Test
+    @DisplayName("Should round-trip every field of a vehicle")
+    void shouldRoundTripEveryField() {
+        // Given
+        VehicleResponse vehicle = VehicleResponse.builder()
+                .id(UUID.randomUUID())
+                .placa("ABC1D23")
+                .marca("Volkswagen")
+                .modelo("Gol")
+                .ano(2020)
+                .cor("Branco")
+                .clienteId(UUID.randomUUID())
+                .clienteNome("João Ção")
+                .createdAt(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000))
+                .updatedAt(LocalDateTime.of(2024, 6, 2, 8, 0))
+                .build();
+
+        // When
+        Object decoded = codec.decode(codec.encode(vehicle));
+
+        // Then
+        assertThat(decoded).isEqualTo(vehicle);
+    }
+
+    @Test
+    @DisplayName("Should keep null fields null")
+    void shouldKeepNullFieldsNull() {
+        // Given
+        VehicleResponse vehicle = VehicleResponse.builder().id(UUID.randomUUID()).placa("ABC1234").build();
+
+        // When
+        Object decoded = codec.decode(codec.encode(vehicle));
+
+        // Then
+        assertThat(decoded).isEqualTo(vehicle);
+    }
+
+    @Test
+    @DisplayName("Should only support single vehicles")
+    void shouldOnlySupportSingleVehicles() {
+        // When & Then
+        assertThat(codec.supports(VehicleResponse.builder().build())).isTrue();
+        assertThat(codec.supports(Page.empty())).isFalse();
+    }
+}
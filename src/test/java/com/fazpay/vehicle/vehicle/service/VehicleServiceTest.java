@@ -1,5 +1,8 @@
 package com.fazpay.vehicle.vehicle.service;
 
+import com.fazpay.vehicle.core.cache.CacheInvalidator;
+import com.fazpay.vehicle.core.cache.NegativeLookupCache;
+import com.fazpay.vehicle.core.constants.CacheNames;
 import com.fazpay.vehicle.core.exception.BusinessException;
 import com.fazpay.vehicle.core.exception.ResourceNotFoundException;
 import com.fazpay.vehicle.customer.model.Customer;
@@ -17,14 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,6 +48,12 @@ class VehicleServiceTest {
     @Mock
     private VehicleMapper vehicleMapper;
 
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private VehicleServiceImpl vehicleService;
 
@@ -108,29 +118,26 @@ class VehicleServiceTest {
     void shouldFindAllVehiclesWithPagination() {
         // Given
         PageRequest pageable = PageRequest.of(0, 10);
-        List<Vehicle> vehicles = Arrays.asList(vehicle);
-        Page<Vehicle> vehiclePage = new PageImpl<>(vehicles, pageable, 1);
+        Slice<VehicleResponse> vehiclePage = new SliceImpl<>(List.of(vehicleResponse), pageable, false);
         
-        when(vehicleRepository.findWithFilters(null, null, null, pageable)).thenReturn(vehiclePage);
-        when(vehicleMapper.toResponse(any(Vehicle.class))).thenReturn(vehicleResponse);
+        when(vehicleRepository.findResponsesWithFilters(null, null, null, pageable)).thenReturn(vehiclePage);
 
         // When
-        Page<VehicleResponse> result = vehicleService.findWithFilters(null, null, null, pageable);
+        Slice<VehicleResponse> result = vehicleService.findWithFilters(null, null, null, pageable);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getPlaca()).isEqualTo("ABC1234");
-        verify(vehicleRepository).findWithFilters(null, null, null, pageable);
-        verify(vehicleMapper).toResponse(any(Vehicle.class));
+        verify(vehicleRepository).findResponsesWithFilters(null, null, null, pageable);
+        verifyNoInteractions(vehicleMapper);
     }
 
     @Test
     @DisplayName("Should find vehicle by ID")
     void shouldFindVehicleById() {
         // Given
-        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicle));
-        when(vehicleMapper.toResponse(vehicle)).thenReturn(vehicleResponse);
+        when(vehicleRepository.findResponseById(vehicleId)).thenReturn(Optional.of(vehicleResponse));
 
         // When
         VehicleResponse result = vehicleService.findById(vehicleId);
@@ -139,15 +146,16 @@ class VehicleServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(vehicleId);
         assertThat(result.getPlaca()).isEqualTo("ABC1234");
-        verify(vehicleRepository).findById(vehicleId);
-        verify(vehicleMapper).toResponse(vehicle);
+        verify(vehicleRepository).findResponseById(vehicleId);
+        verify(vehicleRepository, never()).findById(any());
+        verifyNoInteractions(vehicleMapper);
     }
 
     @Test
     @DisplayName("Should throw ResourceNotFoundException when vehicle not found by ID")
     void shouldThrowExceptionWhenVehicleNotFoundById() {
         // Given
-        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.empty());
+        when(vehicleRepository.findResponseById(vehicleId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> vehicleService.findById(vehicleId))
@@ -155,15 +163,41 @@ class VehicleServiceTest {
                 .hasMessageContaining("Vehicle")
                 .hasMessageContaining(vehicleId.toString());
         
-        verify(vehicleRepository).findById(vehicleId);
+        verify(vehicleRepository).findResponseById(vehicleId);
+    }
+
+    @Test
+    @DisplayName("Should record a miss when vehicle not found by ID")
+    void shouldRecordMissWhenVehicleNotFoundById() {
+        // Given
+        when(vehicleRepository.findResponseById(vehicleId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.findById(vehicleId))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(negativeLookupCache).recordMissing(CacheNames.VEHICLE_MISSES, vehicleId);
+    }
+
+    @Test
+    @DisplayName("Should not query the database for a plate known to be missing")
+    void shouldNotQueryDatabaseForKnownMissingPlate() {
+        // Given
+        when(negativeLookupCache.isKnownMissing(CacheNames.VEHICLE_MISSES, "placa_XYZ9999")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.findByPlaca("xyz9999"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("xyz9999");
+
+        verify(vehicleRepository, never()).findResponseByPlaca(any());
     }
 
     @Test
     @DisplayName("Should find vehicle by plate")
     void shouldFindVehicleByPlate() {
         // Given
-        when(vehicleRepository.findByPlaca("ABC1234")).thenReturn(Optional.of(vehicle));
-        when(vehicleMapper.toResponse(vehicle)).thenReturn(vehicleResponse);
+        when(vehicleRepository.findResponseByPlaca("ABC1234")).thenReturn(Optional.of(vehicleResponse));
 
         // When
         VehicleResponse result = vehicleService.findByPlaca("ABC1234");
@@ -171,15 +205,15 @@ class VehicleServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getPlaca()).isEqualTo("ABC1234");
-        verify(vehicleRepository).findByPlaca("ABC1234");
-        verify(vehicleMapper).toResponse(vehicle);
+        verify(vehicleRepository).findResponseByPlaca("ABC1234");
+        verifyNoInteractions(vehicleMapper);
     }
 
     @Test
     @DisplayName("Should throw ResourceNotFoundException when vehicle not found by plate")
     void shouldThrowExceptionWhenVehicleNotFoundByPlate() {
         // Given
-        when(vehicleRepository.findByPlaca("ABC1234")).thenReturn(Optional.empty());
+        when(vehicleRepository.findResponseByPlaca("ABC1234")).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> vehicleService.findByPlaca("ABC1234"))
@@ -187,7 +221,7 @@ class VehicleServiceTest {
                 .hasMessageContaining("Vehicle")
                 .hasMessageContaining("ABC1234");
         
-        verify(vehicleRepository).findByPlaca("ABC1234");
+        verify(vehicleRepository).findResponseByPlaca("ABC1234");
     }
 
     @Test
@@ -279,6 +313,30 @@ class VehicleServiceTest {
         verify(vehicleRepository).save(vehicle);
     }
 
+    @Test
+    @DisplayName("Should evict only the vehicle keys when plate changes")
+    void shouldEvictOnlyVehicleKeysWhenPlateChanges() {
+        // Given
+        VehiclePatchRequest patchRequest = VehiclePatchRequest.builder()
+                .placa("XYZ9876")
+                .build();
+        
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicle));
+        when(vehicleRepository.findByPlaca("XYZ9876")).thenReturn(Optional.empty());
+        when(vehicleRepository.save(any(Vehicle.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vehicleMapper.toResponse(any(Vehicle.class))).thenReturn(vehicleResponse);
+
+        // When
+        vehicleService.partialUpdate(vehicleId, patchRequest);
+
+        // Then
+        verify(cacheInvalidator).evict(CacheNames.VEHICLES, vehicleId);
+        verify(cacheInvalidator).evict(CacheNames.VEHICLES, "placa_ABC1234");
+        verify(cacheInvalidator).evict(CacheNames.VEHICLES, "placa_XYZ9876");
+        verify(cacheInvalidator).evict(CacheNames.VEHICLE_MISSES, "placa_XYZ9876");
+        verify(cacheInvalidator).invalidatePages(CacheNames.VEHICLES);
+    }
+
     @Test
     @DisplayName("Should delete vehicle (soft delete)")
     void shouldDeleteVehicle() {
@@ -308,20 +366,22 @@ class VehicleServiceTest {
     }
 
     @Test
-    @DisplayName("Should find all vehicles without pagination")
-    void shouldFindAllVehiclesWithoutPagination() {
+    @DisplayName("Should stream all vehicles and close the cursor")
+    void shouldStreamAllVehiclesAndCloseCursor() {
         // Given
-        List<Vehicle> vehicles = Arrays.asList(vehicle);
-        when(vehicleRepository.findAllByDeletedAtIsNull()).thenReturn(vehicles);
-        when(vehicleMapper.toResponse(any(Vehicle.class))).thenReturn(vehicleResponse);
+        boolean[] closed = {false};
+        when(vehicleRepository.streamAllResponses())
+                .thenReturn(Stream.of(vehicleResponse).onClose(() -> closed[0] = true));
+        List<VehicleResponse> result = new ArrayList<>();
 
         // When
-        List<VehicleResponse> result = vehicleService.findAll();
+        vehicleService.streamAll(result::add);
 
         // Then
-        assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getPlaca()).isEqualTo("ABC1234");
-        verify(vehicleRepository).findAllByDeletedAtIsNull();
+        assertThat(closed[0]).isTrue();
+        verify(vehicleRepository).streamAllResponses();
+        verifyNoInteractions(vehicleMapper);
     }
 }